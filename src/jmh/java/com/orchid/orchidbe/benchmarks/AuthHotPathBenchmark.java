@@ -0,0 +1,175 @@
+/**
+ * Copyright (c) 2025 lcaohoanq. All rights reserved.
+ *
+ * This software is the confidential and proprietary information of lcaohoanq.
+ * You shall not disclose such confidential information and shall use it only in
+ * accordance with the terms of the license agreement you entered into with lcaohoanq.
+ */
+package com.orchid.orchidbe.benchmarks;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.orchid.orchidbe.components.JwtTokenUtils;
+import com.orchid.orchidbe.components.TokenRevocationIndex;
+import com.orchid.orchidbe.components.TokenVersionCache;
+import com.orchid.orchidbe.components.VerifiedToken;
+import com.orchid.orchidbe.components.VerifiedTokenCache;
+import com.orchid.orchidbe.domain.account.Account;
+import com.orchid.orchidbe.domain.role.Role;
+import com.orchid.orchidbe.domain.role.Role.RoleName;
+import com.orchid.orchidbe.domain.token.TokenService;
+import com.orchid.orchidbe.filters.JwtTokenFilter;
+import com.orchid.orchidbe.repositories.AccountRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Per-operation cost of the pieces every authenticated request goes through. Everything is wired by
+ * hand, without a Spring context or a database: the account lookups are stubbed and revocation is
+ * the in-memory {@link TokenRevocationIndex}, so the numbers are CPU and allocation only.
+ *
+ * <p>{@code verifyToken} is the full parse and signature check ({@code extractAllClaims}), {@code
+ * filter} is a complete {@link JwtTokenFilter} pass where repeated tokens are answered by the
+ * {@link VerifiedTokenCache}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthHotPathBenchmark {
+
+    private static final String SECRET_KEY =
+            "LuuCaoHoangLuuCaoHoangLuuCaoHoangLuuCaoHoangLuuCaoHoang";
+
+    @State(Scope.Benchmark)
+    public static class Tokens {
+        Account account;
+        JwtTokenUtils jwtTokenUtils;
+        String token;
+        VerifiedToken verifiedToken;
+
+        @Setup
+        public void setUp() {
+            account =
+                    Account.builder()
+                            .id(1L)
+                            .email("bench@orchid.local")
+                            .name("bench")
+                            .role(new Role(RoleName.USER))
+                            .build();
+            jwtTokenUtils = new JwtTokenUtils(new TokenRevocationIndex(new SimpleMeterRegistry()));
+            ReflectionTestUtils.setField(jwtTokenUtils, "expiration", 86400);
+            ReflectionTestUtils.setField(jwtTokenUtils, "secretKey", SECRET_KEY);
+            ReflectionTestUtils.invokeMethod(jwtTokenUtils, "init");
+            token = jwtTokenUtils.generateToken(account);
+            verifiedToken = jwtTokenUtils.verifyToken(token);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Filter {
+
+        /** Whether the principal is built from the claims or loaded through UserDetailsService. */
+        @Param({"false", "true"})
+        boolean claimsPrincipal;
+
+        JwtTokenFilter filter;
+        MockHttpServletRequest request;
+        MockHttpServletResponse response;
+        FilterChain chain;
+        Authentication authentication;
+
+        @Setup
+        public void setUp(Tokens tokens) {
+            AccountRepository accountRepository = mock(AccountRepository.class);
+            when(accountRepository.findTokenVersionById(anyLong())).thenReturn(Optional.of(0));
+            TokenVersionCache versions =
+                    new TokenVersionCache(accountRepository, 10_000, Duration.ofMinutes(30));
+            VerifiedTokenCache verified =
+                    new VerifiedTokenCache(
+                            tokens.jwtTokenUtils,
+                            new SimpleMeterRegistry(),
+                            10_000,
+                            Duration.ofMinutes(30));
+            UserDetailsService userDetailsService = email -> tokens.account;
+            filter =
+                    new JwtTokenFilter(
+                            userDetailsService,
+                            tokens.jwtTokenUtils,
+                            versions,
+                            mock(TokenService.class),
+                            verified);
+            ReflectionTestUtils.setField(filter, "claimsPrincipalEnabled", claimsPrincipal);
+
+            request = new MockHttpServletRequest("GET", "/api/v1/accounts/me");
+            request.addHeader("Authorization", "Bearer " + tokens.token);
+            response = new MockHttpServletResponse();
+            // the end of the chain hands the result back and resets the context for the next op
+            chain =
+                    (req, res) -> {
+                        authentication = SecurityContextHolder.getContext().getAuthentication();
+                        SecurityContextHolder.clearContext();
+                    };
+        }
+
+        @Setup(Level.Iteration)
+        public void checkAuthenticates() throws Exception {
+            filter.doFilter(request, response, chain);
+            if (authentication == null) {
+                throw new IllegalStateException("filter did not authenticate the request");
+            }
+        }
+    }
+
+    @Benchmark
+    public String generateToken(Tokens tokens) {
+        return tokens.jwtTokenUtils.generateToken(tokens.account);
+    }
+
+    @Benchmark
+    public VerifiedToken verifyToken(Tokens tokens) {
+        return tokens.jwtTokenUtils.verifyToken(tokens.token);
+    }
+
+    @Benchmark
+    public boolean validateToken(Tokens tokens) {
+        return tokens.jwtTokenUtils.validateToken(tokens.verifiedToken, tokens.account);
+    }
+
+    @Benchmark
+    public Collection<? extends GrantedAuthority> getAuthorities(Tokens tokens) {
+        return tokens.account.getAuthorities();
+    }
+
+    @Benchmark
+    public Authentication filter(Filter state) throws Exception {
+        state.filter.doFilter(state.request, state.response, state.chain);
+        return state.authentication;
+    }
+}
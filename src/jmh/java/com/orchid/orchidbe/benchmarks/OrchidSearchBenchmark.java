@@ -0,0 +1,99 @@
+/**
+ * Copyright (c) 2025 lcaohoanq. All rights reserved.
+ *
+ * This software is the confidential and proprietary information of lcaohoanq.
+ * You shall not disclose such confidential information and shall use it only in
+ * accordance with the terms of the license agreement you entered into with lcaohoanq.
+ */
+package com.orchid.orchidbe.benchmarks;
+
+import com.orchid.orchidbe.domain.orchid.OrchidDTO.OrchidRes;
+import com.orchid.orchidbe.domain.orchid.OrchidSearchIndex;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Query latency of {@link OrchidSearchIndex} over a synthetic catalog. Words are drawn from a
+ * skewed vocabulary, so "common" matches a large share of the catalog, like "orchid" does in real
+ * descriptions, and "rare" only a handful of orchids.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrchidSearchBenchmark {
+
+    private static final int VOCABULARY = 20_000;
+
+    @Param({"100000"})
+    int orchids;
+
+    @Param({"common", "rare", "mixed"})
+    String query;
+
+    private OrchidSearchIndex index;
+    private String text;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<OrchidRes> catalog = new ArrayList<>(orchids);
+        for (long id = 1; id <= orchids; id++) {
+            catalog.add(
+                    new OrchidRes(
+                            id,
+                            random.nextBoolean(),
+                            words(random, 25),
+                            words(random, 3),
+                            null,
+                            10.0,
+                            1L,
+                            null,
+                            null));
+        }
+        index = new OrchidSearchIndex(1.2f, 0.75f);
+        try (var rebuild = index.beginRebuild()) {
+            rebuild.complete(catalog);
+        }
+        text =
+                switch (query) {
+                    case "common" -> word(0);
+                    case "rare" -> word(VOCABULARY - 1);
+                    default -> word(0) + " " + word(50) + " " + word(5_000);
+                };
+    }
+
+    @Benchmark
+    public List<OrchidSearchIndex.Hit> search() {
+        return index.search(text, 20);
+    }
+
+    /** Roughly Zipfian: low ranks are drawn far more often than high ones. */
+    private static String words(Random random, int count) {
+        StringBuilder words = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            int rank = (int) Math.floor(Math.pow(VOCABULARY, random.nextDouble())) - 1;
+            words.append(word(rank)).append(' ');
+        }
+        return words.toString();
+    }
+
+    private static String word(int rank) {
+        return "w" + Integer.toString(rank, 36);
+    }
+}
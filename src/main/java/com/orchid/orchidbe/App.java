@@ -20,10 +20,12 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.core.env.Environment;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableJpaRepositories(basePackages = "com.orchid.orchidbe.repositories")
 @EntityScan(basePackages = "com.orchid.orchidbe.domain")
+@EnableScheduling
 @BrowserLauncher(
         value = "http://localhost:8080/swagger-ui.html",
         healthCheckEndpoint = "http://localhost:8080/actuator/health"
@@ -0,0 +1,25 @@
+/**
+ * Copyright (c) 2025 lcaohoanq. All rights reserved.
+ *
+ * This software is the confidential and proprietary information of lcaohoanq.
+ * You shall not disclose such confidential information and shall use it only in
+ * accordance with the terms of the license agreement you entered into with lcaohoanq.
+ */
+package com.orchid.orchidbe.annotations.auth;
+
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target({ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@ApiResponses(
+        value = {
+            @ApiResponse(responseCode = "200", description = "✅ One answer per token"),
+            @ApiResponse(responseCode = "400", description = "❌ Empty or oversized batch"),
+            @ApiResponse(responseCode = "401", description = "❌ Introspection key missing or wrong")
+        })
+public @interface IntrospectApiResponses {}
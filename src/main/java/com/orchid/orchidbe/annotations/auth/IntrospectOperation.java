@@ -0,0 +1,29 @@
+/**
+ * Copyright (c) 2025 lcaohoanq. All rights reserved.
+ *
+ * This software is the confidential and proprietary information of lcaohoanq.
+ * You shall not disclose such confidential information and shall use it only in
+ * accordance with the terms of the license agreement you entered into with lcaohoanq.
+ */
+package com.orchid.orchidbe.annotations.auth;
+
+import io.swagger.v3.oas.annotations.Operation;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target({ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Operation(
+        summary = "🔎 Introspect access tokens",
+        description =
+                """
+            **Validate a batch of access tokens on behalf of another service**
+
+            Requires the shared `X-Introspection-Key` header. Each token is answered in request
+            order with whether it is active, whether it was revoked, its claims and its expiry.
+            Active answers may be reused for `cache_max_age` seconds, the `Cache-Control` header
+            covers the whole batch.
+            """)
+public @interface IntrospectOperation {}
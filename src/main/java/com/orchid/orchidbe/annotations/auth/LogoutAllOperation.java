@@ -0,0 +1,29 @@
+/**
+ * Copyright (c) 2025 lcaohoanq. All rights reserved.
+ *
+ * This software is the confidential and proprietary information of lcaohoanq.
+ * You shall not disclose such confidential information and shall use it only in
+ * accordance with the terms of the license agreement you entered into with lcaohoanq.
+ */
+package com.orchid.orchidbe.annotations.auth;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target({ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Operation(
+        summary = "🚪 Logout from every device",
+        description =
+                """
+            **Invalidate every access and refresh token of your account**
+
+            Signs you out on all devices at once, including the one making this request.
+            Each device has to login again afterwards.
+            """,
+        security = @SecurityRequirement(name = "bearer-jwt"))
+public @interface LogoutAllOperation {}
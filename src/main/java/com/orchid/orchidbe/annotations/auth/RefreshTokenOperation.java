@@ -0,0 +1,27 @@
+/**
+ * Copyright (c) 2025 lcaohoanq. All rights reserved.
+ *
+ * This software is the confidential and proprietary information of lcaohoanq.
+ * You shall not disclose such confidential information and shall use it only in
+ * accordance with the terms of the license agreement you entered into with lcaohoanq.
+ */
+package com.orchid.orchidbe.annotations.auth;
+
+import io.swagger.v3.oas.annotations.Operation;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target({ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Operation(
+        summary = "🔄 Refresh access token",
+        description =
+                """
+            **Exchange a refresh token for a new access token**
+
+            The old access token stops working immediately and a new refresh token is issued,
+            so keep the one from the response for the next refresh.
+            """)
+public @interface RefreshTokenOperation {}
@@ -0,0 +1,64 @@
+/**
+ * Copyright (c) 2025 lcaohoanq. All rights reserved.
+ *
+ * This software is the confidential and proprietary information of lcaohoanq.
+ * You shall not disclose such confidential information and shall use it only in
+ * accordance with the terms of the license agreement you entered into with lcaohoanq.
+ */
+package com.orchid.orchidbe.apis;
+
+import java.util.function.Supplier;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Conditional GET for responses whose ETag is known before their body, e.g. from {@link
+ * com.orchid.orchidbe.components.CatalogVersions}. A matching {@code If-None-Match} is answered
+ * with 304 without calling the supplier, so nothing is loaded or serialized.
+ */
+public final class ConditionalGet {
+
+    private ConditionalGet() {}
+
+    /**
+     * @param ifNoneMatch the request header, may be null
+     * @param eTag the current tag, read before the body so a concurrent write can only make the tag
+     *     older than the body and never the reverse
+     * @param cacheControl the {@code Cache-Control} header of both the 200 and the 304
+     */
+    public static <T> ResponseEntity<T> respond(
+            String ifNoneMatch,
+            String eTag,
+            String cacheControl,
+            Supplier<ResponseEntity<T>> response) {
+        if (matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .header(HttpHeaders.CACHE_CONTROL, cacheControl)
+                    .build();
+        }
+        var full = response.get();
+        return ResponseEntity.status(full.getStatusCode())
+                .headers(full.getHeaders())
+                .eTag(eTag)
+                .header(HttpHeaders.CACHE_CONTROL, cacheControl)
+                .body(full.getBody());
+    }
+
+    static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        var current = ETag.create(eTag);
+        // weak comparison, W/"x" matches "x". A * is not honoured, it would mean looking up
+        // whether the resource exists
+        for (ETag candidate : ETag.parse(ifNoneMatch)) {
+            if (candidate.compare(current, false)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
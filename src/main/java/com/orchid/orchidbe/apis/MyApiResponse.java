@@ -14,6 +14,8 @@ import com.orchid.orchidbe.apis.MyApiResponse.Success;
 import com.orchid.orchidbe.apis.MyApiResponse.ValidationError;
 import java.time.Instant;
 import java.util.Map;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.context.request.RequestContextHolder;
@@ -107,6 +109,12 @@ public sealed interface MyApiResponse<T> permits Error, Success, ValidationError
         return ResponseEntity.ok(new Success<>(200, "Success", data, Instant.now()));
     }
 
+    static <T> ResponseEntity<MyApiResponse<T>> success(T data, CacheControl cacheControl) {
+        return ResponseEntity.ok()
+                .cacheControl(cacheControl)
+                .body(new Success<>(200, "Success", data, Instant.now()));
+    }
+
     static <T> ResponseEntity<MyApiResponse<T>> success() {
         return ResponseEntity.ok(new Success<>(200, "Success", null, Instant.now()));
     }
@@ -215,6 +223,28 @@ public sealed interface MyApiResponse<T> permits Error, Success, ValidationError
                                 Instant.now()));
     }
 
+    static <T> ResponseEntity<MyApiResponse<T>> serviceUnavailable(
+            String reason, long retryAfterSeconds) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(
+                        new Error<>(
+                                503,
+                                "Service Unavailable",
+                                reason,
+                                getCurrentPath(),
+                                Instant.now()));
+    }
+
+    static <T> ResponseEntity<MyApiResponse<T>> tooManyRequests(
+            String reason, long retryAfterSeconds) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(
+                        new Error<>(
+                                429, "Too Many Requests", reason, getCurrentPath(), Instant.now()));
+    }
+
     static <T> ResponseEntity<MyApiResponse<T>> unauthorized(String reason) {
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                 .body(new Error<>(401, "Unauthorized", reason, getCurrentPath(), Instant.now()));
@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) 2025 lcaohoanq. All rights reserved.
+ *
+ * This software is the confidential and proprietary information of lcaohoanq.
+ * You shall not disclose such confidential information and shall use it only in
+ * accordance with the terms of the license agreement you entered into with lcaohoanq.
+ */
+package com.orchid.orchidbe.components;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Version counters behind the strong ETags of the catalog GETs. Every collection has one counter
+ * and every resource in it one more, created on its first change. Services bump them after each
+ * write, so a tag can be computed, and an {@code If-None-Match} answered, without loading anything.
+ *
+ * <p>Tags also carry a random epoch. It changes on restart, so counters starting again from zero
+ * never repeat a tag, and periodically, which bounds how long a write made through another instance
+ * can go unnoticed here.
+ */
+@Component
+public class CatalogVersions {
+
+    public static final String ORCHIDS = "orchids";
+    public static final String CATEGORIES = "categories";
+
+    private final Map<String, AtomicLong> collections = new ConcurrentHashMap<>();
+    // swapped whole on rotation, so a tag never pairs a new epoch with old counters or the reverse
+    private volatile Epoch current = new Epoch(newEpoch(), new ConcurrentHashMap<>());
+
+    /** Strong ETag of a whole collection, e.g. {@code "orchids.1k3f9x.4"}. */
+    public String tag(String collection) {
+        return '"' + collection + '.' + current.name() + '.' + counter(collection).get() + '"';
+    }
+
+    /** Strong ETag of one resource, e.g. {@code "orchids/12.1k3f9x.1"}. */
+    public String tag(String collection, long id) {
+        var epoch = current;
+        long version = epoch.resources().getOrDefault(collection + '/' + id, 0L);
+        return '"' + collection + '/' + id + '.' + epoch.name() + '.' + version + '"';
+    }
+
+    /** After a write that adds to the collection. */
+    public void bump(String collection) {
+        counter(collection).incrementAndGet();
+    }
+
+    /** After a write that changes or removes one resource, which changes the collection too. */
+    public synchronized void bump(String collection, long id) {
+        current.resources().merge(collection + '/' + id, 1L, Long::sum);
+        bump(collection);
+    }
+
+    /** Starts a new epoch, which also drops the counters of resources deleted since the last. */
+    @Scheduled(
+            initialDelayString = "${catalog.etag.rotate-interval:600000}",
+            fixedDelayString = "${catalog.etag.rotate-interval:600000}")
+    public synchronized void rotate() {
+        current = new Epoch(newEpoch(), new ConcurrentHashMap<>());
+    }
+
+    private AtomicLong counter(String collection) {
+        return collections.computeIfAbsent(collection, c -> new AtomicLong());
+    }
+
+    private static String newEpoch() {
+        return Long.toString(ThreadLocalRandom.current().nextLong() >>> 1, 36);
+    }
+
+    private record Epoch(String name, Map<String, Long> resources) {}
+}
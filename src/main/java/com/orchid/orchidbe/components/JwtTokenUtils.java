@@ -8,37 +8,38 @@
 package com.orchid.orchidbe.components;
 
 import com.orchid.orchidbe.domain.account.Account;
-import com.orchid.orchidbe.domain.token.Token;
 import com.orchid.orchidbe.exceptions.InvalidParamException;
 import com.orchid.orchidbe.exceptions.JwtAuthenticationException;
-import com.orchid.orchidbe.repositories.TokenRepository;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.io.Encoders;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import java.security.Key;
-import java.security.SecureRandom;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.function.Function;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 @Component
 @RequiredArgsConstructor
 public class JwtTokenUtils {
 
-    private final TokenRepository tokenRepository;
+    private final TokenRevocationIndex revocationIndex;
 
     @Value("${jwt.expiration}")
     private int expiration; // save to an environment variable
@@ -51,21 +52,36 @@ public class JwtTokenUtils {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtTokenUtils.class);
 
-    //    private final TokenRepository tokenRepository;
+    // Both are immutable and thread-safe, so they are built once instead of per call
+    private Key signInKey;
+    private JwtParser jwtParser;
+
+    @PostConstruct
+    void init() {
+        signInKey = getSignInKey();
+        jwtParser = Jwts.parserBuilder().setSigningKey(signInKey).build();
+    }
+
     public String generateToken(Account user) {
         // properties => claims
         Map<String, Object> claims = new HashMap<>();
-        // this.generateSecretKey();
         claims.put("email", user.getEmail());
         claims.put("userId", user.getId());
+        // lets the filter build the principal without loading the account
+        if (user.getRole() != null) {
+            claims.put("role", user.getRole().getName().name());
+        }
+        claims.put("ver", user.getTokenVersion());
         try {
             String token =
                     Jwts.builder()
                             .setClaims(claims) // how to extract claims from this ?
                             .setSubject(user.getEmail())
+                            // unique id, so two logins within the same second never share a token
+                            .setId(UUID.randomUUID().toString())
                             .setExpiration(
                                     new Date(System.currentTimeMillis() + expiration * 1000L))
-                            .signWith(getSignInKey(), SignatureAlgorithm.HS256)
+                            .signWith(signInKey, SignatureAlgorithm.HS256)
                             .compact();
             return token;
         } catch (Exception e) {
@@ -81,35 +97,30 @@ public class JwtTokenUtils {
         return Keys.hmacShaKeyFor(bytes);
     }
 
-    private String generateSecretKey() {
-        SecureRandom random = new SecureRandom();
-        byte[] keyBytes = new byte[32]; // 256-bit key
-        random.nextBytes(keyBytes);
-        String secretKey = Encoders.BASE64.encode(keyBytes);
-        return secretKey;
-    }
-
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-    }
-
-    public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = this.extractAllClaims(token);
-        return claimsResolver.apply(claims);
+        return jwtParser.parseClaimsJws(token).getBody();
     }
 
-    // check expiration
-    public boolean isTokenExpired(String token) {
-        Date expirationDate = this.extractClaim(token, Claims::getExpiration);
-        return expirationDate.before(new Date());
-    }
-
-    public String extractEmail(String token) {
-        return extractClaim(token, Claims::getSubject);
+    /**
+     * Parses and verifies the token exactly once. Signature and expiry are checked by the parser,
+     * so the returned claims can be trusted for the rest of the request.
+     */
+    public VerifiedToken verifyToken(String token) {
+        try {
+            return new VerifiedToken(token, extractAllClaims(token));
+        } catch (ExpiredJwtException e) {
+            throw new JwtAuthenticationException("JWT token has expired");
+        } catch (MalformedJwtException e) {
+            throw new JwtAuthenticationException("Invalid JWT token format");
+        } catch (UnsupportedJwtException e) {
+            throw new JwtAuthenticationException("Unsupported JWT token");
+        } catch (SignatureException e) {
+            throw new JwtAuthenticationException("Invalid JWT signature");
+        } catch (IllegalArgumentException e) {
+            throw new JwtAuthenticationException("JWT claims string is empty");
+        } catch (JwtException e) {
+            throw new JwtAuthenticationException("Invalid JWT token");
+        }
     }
 
     public String extractBearerToken(HttpServletRequest request) {
@@ -120,38 +131,18 @@ public class JwtTokenUtils {
         return header.substring(7); // Remove "Bearer " prefix
     }
 
-    public boolean validateToken(String token, Account userDetails) {
-        try {
-            String email = extractEmail(token);
-            Token existingToken =
-                    tokenRepository
-                            .findByToken(token)
-                            .orElseThrow(() -> new JwtAuthenticationException("Token is invalid"));
-
-            // Check token existence and revocation
-            if (existingToken == null || existingToken.isRevoked()) {
-                throw new JwtAuthenticationException("Token is invalid or has been revoked");
-            }
-
-            // Check token matches user
-            if (!email.equals(userDetails.getUsername())) {
-                throw new JwtAuthenticationException("Token does not match user");
-            }
-
-            // Check expiration
-            if (isTokenExpired(token)) {
-                throw new ExpiredJwtException(null, null, "Token has expired");
-            }
-
-            return true;
-        } catch (ExpiredJwtException e) {
-            throw new JwtAuthenticationException("JWT token has expired");
-        } catch (MalformedJwtException e) {
-            throw new JwtAuthenticationException("Invalid JWT token format");
-        } catch (UnsupportedJwtException e) {
-            throw new JwtAuthenticationException("Unsupported JWT token");
-        } catch (IllegalArgumentException e) {
-            throw new JwtAuthenticationException("JWT claims string is empty");
+    public boolean validateToken(VerifiedToken verifiedToken, UserDetails userDetails) {
+        // Check token revocation, served from memory instead of the tokens table
+        if (revocationIndex.isRevoked(verifiedToken.digest())) {
+            throw new JwtAuthenticationException("Token is invalid or has been revoked");
+        }
+
+        // Check token matches user
+        if (!verifiedToken.email().equals(userDetails.getUsername())) {
+            throw new JwtAuthenticationException("Token does not match user");
         }
+
+        // Expiration has already been enforced by verifyToken
+        return true;
     }
 }
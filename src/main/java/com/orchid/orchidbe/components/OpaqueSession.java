@@ -0,0 +1,67 @@
+/**
+ * Copyright (c) 2025 lcaohoanq. All rights reserved.
+ *
+ * This software is the confidential and proprietary information of lcaohoanq.
+ * You shall not disclose such confidential information and shall use it only in
+ * accordance with the terms of the license agreement you entered into with lcaohoanq.
+ */
+package com.orchid.orchidbe.components;
+
+import com.orchid.orchidbe.domain.role.Role.RoleName;
+import com.orchid.orchidbe.security.JwtPrincipal;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+
+/**
+ * What an opaque access token stands for: everything the request path needs to authenticate the
+ * caller, so resolving a token is one map lookup. Keyed by the {@link TokenDigest} of the token.
+ */
+public record OpaqueSession(
+        String digest,
+        Long accountId,
+        String email,
+        RoleName role,
+        int version,
+        Instant expiresAt) {
+
+    // JPQL constructor expression over a tokens row
+    public OpaqueSession(
+            String digest,
+            Long accountId,
+            String email,
+            RoleName role,
+            int version,
+            LocalDateTime expirationDate) {
+        this(
+                digest,
+                accountId,
+                email,
+                role,
+                version,
+                expirationDate.atZone(ZoneId.systemDefault()).toInstant());
+    }
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    public JwtPrincipal toPrincipal() {
+        return new JwtPrincipal(accountId, email, role);
+    }
+
+    /**
+     * Presents the session the way a verified JWT would look, so logout and everything else reading
+     * the credentials works the same in both token modes.
+     */
+    public VerifiedToken toVerifiedToken(String token) {
+        Claims claims = Jwts.claims().setSubject(email).setExpiration(Date.from(expiresAt));
+        claims.put("userId", accountId);
+        claims.put("role", role.name());
+        claims.put("ver", version);
+        return new VerifiedToken(token, digest, claims);
+    }
+}
@@ -0,0 +1,208 @@
+/**
+ * Copyright (c) 2025 lcaohoanq. All rights reserved.
+ *
+ * This software is the confidential and proprietary information of lcaohoanq.
+ * You shall not disclose such confidential information and shall use it only in
+ * accordance with the terms of the license agreement you entered into with lcaohoanq.
+ */
+package com.orchid.orchidbe.components;
+
+import com.orchid.orchidbe.exceptions.RateLimitExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Token buckets per client IP and per email for the unauthenticated auth routes, each of which
+ * costs a BCrypt hash. Limits are read per route as {@code capacity/period}, e.g. {@code
+ * auth.rate-limit.login.ip=20/1m}: a burst of 20, refilled at 20 per minute. A dimension without a
+ * limit is not checked.
+ *
+ * <p>Buckets live in lock-striped, access-ordered maps. Each stripe holds at most {@code max-keys /
+ * stripes} buckets, evicting the least recently used, and idle buckets (which would be full again
+ * anyway) are swept periodically.
+ */
+@Component
+@Slf4j
+public class RateLimiter {
+
+    private static final String PREFIX = "auth.rate-limit.";
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+    private final Stripe[] stripes;
+    private final Map<String, BucketSpec> specs = new ConcurrentHashMap<>();
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final boolean enabled;
+    private final Duration idleTimeout;
+
+    public RateLimiter(
+            Environment environment,
+            MeterRegistry meterRegistry,
+            @Value("${auth.rate-limit.enabled:true}") boolean enabled,
+            @Value("${auth.rate-limit.stripes:32}") int stripeCount,
+            @Value("${auth.rate-limit.max-keys:100000}") int maxKeys,
+            @Value("${auth.rate-limit.idle-timeout:10m}") Duration idleTimeout) {
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.idleTimeout = idleTimeout;
+        this.stripes = new Stripe[stripeCount];
+        int perStripe = Math.max(1, maxKeys / stripeCount);
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe(perStripe);
+        }
+    }
+
+    /**
+     * Takes one token from the IP bucket and one from the email bucket of the route.
+     *
+     * @throws RateLimitExceededException when either is empty
+     */
+    public void check(String route, String ip, String email) {
+        if (!enabled) {
+            return;
+        }
+        acquire(route, "ip", ip);
+        if (email != null) {
+            acquire(route, "email", email.toLowerCase(Locale.ROOT));
+        }
+    }
+
+    private void acquire(String route, String dimension, String client) {
+        BucketSpec spec = specs.computeIfAbsent(route + "." + dimension, this::loadSpec);
+        if (spec == BucketSpec.UNLIMITED || client == null) {
+            return;
+        }
+        String key = route + '|' + dimension + '|' + client;
+        long waitNanos = stripeOf(key).tryAcquire(key, spec, System.nanoTime());
+        if (waitNanos == 0) {
+            counter(route, dimension, "allowed").increment();
+            return;
+        }
+        counter(route, dimension, "rejected").increment();
+        throw new RateLimitExceededException(
+                "Too many requests, try again later",
+                Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L)));
+    }
+
+    @Scheduled(fixedDelayString = "${auth.rate-limit.sweep-interval:60000}")
+    public void evictIdle() {
+        long cutoff = System.nanoTime() - idleTimeout.toNanos();
+        int evicted = 0;
+        for (Stripe stripe : stripes) {
+            evicted += stripe.evictIdleSince(cutoff);
+        }
+        log.debug("Evicted {} idle rate limit buckets", evicted);
+    }
+
+    private BucketSpec loadSpec(String routeAndDimension) {
+        String value = environment.getProperty(PREFIX + routeAndDimension);
+        return value == null ? BucketSpec.UNLIMITED : BucketSpec.parse(value);
+    }
+
+    private Counter counter(String route, String dimension, String result) {
+        return counters.computeIfAbsent(
+                route + '|' + dimension + '|' + result,
+                k ->
+                        Counter.builder("auth.rate.limit.requests")
+                                .description("Auth requests checked by the rate limiter")
+                                .tag("route", route)
+                                .tag("key", dimension)
+                                .tag("result", result)
+                                .register(meterRegistry));
+    }
+
+    private Stripe stripeOf(String key) {
+        int hash = key.hashCode();
+        return stripes[Math.floorMod(hash ^ (hash >>> 16), stripes.length)];
+    }
+
+    /** Burst size and refill rate of one bucket, parsed from {@code capacity/period}. */
+    record BucketSpec(int capacity, double tokensPerNano) {
+
+        static final BucketSpec UNLIMITED = new BucketSpec(0, 0);
+
+        static BucketSpec parse(String value) {
+            String[] parts = value.split("/");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected capacity/period, got " + value);
+            }
+            int capacity = Integer.parseInt(parts[0].trim());
+            Duration period = DurationStyle.detectAndParse(parts[1].trim());
+            return new BucketSpec(capacity, (double) capacity / period.toNanos());
+        }
+    }
+
+    private static final class Bucket {
+        private double tokens;
+        private long lastRefill;
+
+        private Bucket(double tokens, long now) {
+            this.tokens = tokens;
+            this.lastRefill = now;
+        }
+    }
+
+    private static final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<String, Bucket> buckets;
+
+        private Stripe(int maxKeys) {
+            this.buckets =
+                    new LinkedHashMap<>(16, 0.75f, true) {
+                        @Override
+                        protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+                            return size() > maxKeys;
+                        }
+                    };
+        }
+
+        /** 0 if a token was taken, otherwise how long until one is available. */
+        private long tryAcquire(String key, BucketSpec spec, long now) {
+            lock.lock();
+            try {
+                Bucket bucket = buckets.get(key);
+                if (bucket == null) {
+                    bucket = new Bucket(spec.capacity(), now);
+                    buckets.put(key, bucket);
+                }
+                bucket.tokens =
+                        Math.min(
+                                spec.capacity(),
+                                bucket.tokens + (now - bucket.lastRefill) * spec.tokensPerNano());
+                bucket.lastRefill = now;
+                if (bucket.tokens >= 1) {
+                    bucket.tokens -= 1;
+                    return 0;
+                }
+                return (long) Math.ceil((1 - bucket.tokens) / spec.tokensPerNano());
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private int evictIdleSince(long cutoff) {
+            lock.lock();
+            try {
+                int before = buckets.size();
+                buckets.values().removeIf(bucket -> bucket.lastRefill - cutoff < 0);
+                return before - buckets.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
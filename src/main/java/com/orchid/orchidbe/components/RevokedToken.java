@@ -0,0 +1,24 @@
+/**
+ * Copyright (c) 2025 lcaohoanq. All rights reserved.
+ *
+ * This software is the confidential and proprietary information of lcaohoanq.
+ * You shall not disclose such confidential information and shall use it only in
+ * accordance with the terms of the license agreement you entered into with lcaohoanq.
+ */
+package com.orchid.orchidbe.components;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * A revoked token as the {@link TokenRevocationIndex} needs it, read without loading the row, its
+ * account or role. Keyed by the {@link TokenDigest} of the token.
+ */
+public record RevokedToken(String digest, Instant expiresAt) {
+
+    // JPQL constructor expression over a tokens row
+    public RevokedToken(String digest, LocalDateTime expirationDate) {
+        this(digest, expirationDate.atZone(ZoneId.systemDefault()).toInstant());
+    }
+}
@@ -0,0 +1,169 @@
+/**
+ * Copyright (c) 2025 lcaohoanq. All rights reserved.
+ *
+ * This software is the confidential and proprietary information of lcaohoanq.
+ * You shall not disclose such confidential information and shall use it only in
+ * accordance with the terms of the license agreement you entered into with lcaohoanq.
+ */
+package com.orchid.orchidbe.components;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory {@link OpaqueSession}s for the opaque token mode, split into independently locked
+ * shards so lookups on the request path only ever contend with writes to the same shard. Entries
+ * expire with their token: lazily on lookup and in bulk by a periodic sweep.
+ *
+ * <p>Only a cache of the {@code tokens} table, which stays the source of truth: {@code
+ * TokenServiceImpl} fills it on login/refresh, reloads misses from the table and restores it at
+ * startup. Digests the table did not have either are remembered for a short while in a size-bounded
+ * cache, so repeating an unknown token does not cost a read every time.
+ */
+@Component
+@Slf4j
+public class SessionStore {
+
+    private final Shard[] shards;
+    private final int mask;
+    private final Cache<String, Boolean> misses;
+
+    public SessionStore(
+            @Value("${auth.opaque-tokens.shards:16}") int shardCount,
+            @Value("${auth.opaque-tokens.miss-cache.max-size:10000}") long maxMisses,
+            @Value("${auth.opaque-tokens.miss-cache.ttl:10s}") Duration missTtl,
+            MeterRegistry meterRegistry) {
+        // power of two, so the shard is picked with a mask
+        int size = Integer.highestOneBit(Math.max(1, shardCount - 1)) << 1;
+        this.shards = new Shard[size];
+        for (int i = 0; i < size; i++) {
+            shards[i] = new Shard();
+        }
+        this.mask = size - 1;
+        this.misses =
+                Caffeine.newBuilder()
+                        .maximumSize(maxMisses)
+                        .expireAfterWrite(missTtl)
+                        .recordStats()
+                        .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, misses, "auth.session-misses");
+        Gauge.builder("auth.sessions.size", this, SessionStore::size)
+                .description("Opaque sessions held in memory")
+                .register(meterRegistry);
+    }
+
+    public void put(OpaqueSession session) {
+        misses.invalidate(session.digest());
+        Shard shard = shardOf(session.digest());
+        shard.lock.writeLock().lock();
+        try {
+            shard.sessions.put(session.digest(), session);
+        } finally {
+            shard.lock.writeLock().unlock();
+        }
+    }
+
+    /** The live session for the digest, or null when unknown or expired. */
+    public OpaqueSession get(String digest) {
+        Shard shard = shardOf(digest);
+        OpaqueSession session;
+        shard.lock.readLock().lock();
+        try {
+            session = shard.sessions.get(digest);
+        } finally {
+            shard.lock.readLock().unlock();
+        }
+        if (session != null && session.isExpired(Instant.now())) {
+            remove(digest);
+            return null;
+        }
+        return session;
+    }
+
+    /** Whether the table recently had no live session for the digest. */
+    public boolean isKnownMiss(String digest) {
+        return misses.getIfPresent(digest) != null;
+    }
+
+    public void rememberMiss(String digest) {
+        misses.put(digest, Boolean.TRUE);
+    }
+
+    public OpaqueSession remove(String digest) {
+        Shard shard = shardOf(digest);
+        shard.lock.writeLock().lock();
+        try {
+            return shard.sessions.remove(digest);
+        } finally {
+            shard.lock.writeLock().unlock();
+        }
+    }
+
+    /** Drops every session of the account; a full scan, meant for rare events like role changes. */
+    public int removeAccount(Long accountId) {
+        int removed = 0;
+        for (Shard shard : shards) {
+            shard.lock.writeLock().lock();
+            try {
+                int before = shard.sessions.size();
+                shard.sessions.values().removeIf(s -> s.accountId().equals(accountId));
+                removed += before - shard.sessions.size();
+            } finally {
+                shard.lock.writeLock().unlock();
+            }
+        }
+        return removed;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Shard shard : shards) {
+            shard.lock.readLock().lock();
+            try {
+                size += shard.sessions.size();
+            } finally {
+                shard.lock.readLock().unlock();
+            }
+        }
+        return size;
+    }
+
+    @Scheduled(fixedDelayString = "${auth.opaque-tokens.sweep-interval:60000}")
+    public void evictExpired() {
+        Instant now = Instant.now();
+        int evicted = 0;
+        for (Shard shard : shards) {
+            shard.lock.writeLock().lock();
+            try {
+                int before = shard.sessions.size();
+                shard.sessions.values().removeIf(s -> s.isExpired(now));
+                evicted += before - shard.sessions.size();
+            } finally {
+                shard.lock.writeLock().unlock();
+            }
+        }
+        log.debug("Evicted {} expired sessions", evicted);
+    }
+
+    private Shard shardOf(String digest) {
+        int hash = digest.hashCode();
+        return shards[(hash ^ (hash >>> 16)) & mask];
+    }
+
+    private static final class Shard {
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private final Map<String, OpaqueSession> sessions = new HashMap<>();
+    }
+}
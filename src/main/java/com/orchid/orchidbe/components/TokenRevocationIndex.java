@@ -0,0 +1,60 @@
+/**
+ * Copyright (c) 2025 lcaohoanq. All rights reserved.
+ *
+ * This software is the confidential and proprietary information of lcaohoanq.
+ * You shall not disclose such confidential information and shall use it only in
+ * accordance with the terms of the license agreement you entered into with lcaohoanq.
+ */
+package com.orchid.orchidbe.components;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory set of access tokens that must no longer be accepted, keyed by {@link TokenDigest}. An
+ * entry only has to live as long as the token itself, afterwards the JWT expiry check rejects it
+ * anyway, so the set stays bounded by the number of tokens revoked within one token lifetime.
+ *
+ * <p>Filled by logout, session eviction and refresh rotation in {@code TokenServiceImpl}, which
+ * also rebuilds it from the {@code tokens} table at startup.
+ */
+@Component
+@Slf4j
+public class TokenRevocationIndex {
+
+    private final Map<String, Instant> revoked = new ConcurrentHashMap<>();
+
+    public TokenRevocationIndex(MeterRegistry meterRegistry) {
+        Gauge.builder("auth.revocation.index.size", revoked, Map::size)
+                .description("Revoked access tokens that have not expired yet")
+                .register(meterRegistry);
+    }
+
+    public void revoke(String tokenDigest, Instant expiresAt) {
+        if (expiresAt == null || expiresAt.isAfter(Instant.now())) {
+            revoked.put(tokenDigest, expiresAt == null ? Instant.MAX : expiresAt);
+        }
+    }
+
+    public boolean isRevoked(String tokenDigest) {
+        return revoked.containsKey(tokenDigest);
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.purge-interval:60000}")
+    public void purgeExpired() {
+        Instant now = Instant.now();
+        int before = revoked.size();
+        revoked.values().removeIf(expiresAt -> expiresAt.isBefore(now));
+        log.debug("Purged {} expired entries from revocation index", before - revoked.size());
+    }
+}
@@ -0,0 +1,48 @@
+/**
+ * Copyright (c) 2025 lcaohoanq. All rights reserved.
+ *
+ * This software is the confidential and proprietary information of lcaohoanq.
+ * You shall not disclose such confidential information and shall use it only in
+ * accordance with the terms of the license agreement you entered into with lcaohoanq.
+ */
+package com.orchid.orchidbe.components;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.orchid.orchidbe.repositories.AccountRepository;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Small cache of each account's current {@code token_version}, compared against the "ver" claim of
+ * incoming tokens. Local changes evict the entry right away, the TTL bounds how long a change made
+ * on another instance can go unnoticed.
+ */
+@Component
+public class TokenVersionCache {
+
+    /** Returned for accounts that no longer exist, never equal to a real version. */
+    public static final int UNKNOWN_ACCOUNT = -1;
+
+    private final AccountRepository accountRepository;
+    private final Cache<Long, Integer> versions;
+
+    public TokenVersionCache(
+            AccountRepository accountRepository,
+            @Value("${jwt.token-version-cache.max-size:10000}") long maxSize,
+            @Value("${jwt.token-version-cache.ttl:30s}") Duration ttl) {
+        this.accountRepository = accountRepository;
+        this.versions = Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).build();
+    }
+
+    public int currentVersion(Long accountId) {
+        return versions.get(
+                accountId,
+                id -> accountRepository.findTokenVersionById(id).orElse(UNKNOWN_ACCOUNT));
+    }
+
+    public void evict(Long accountId) {
+        versions.invalidate(accountId);
+    }
+}
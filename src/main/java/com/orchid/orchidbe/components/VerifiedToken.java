@@ -0,0 +1,51 @@
+/**
+ * Copyright (c) 2025 lcaohoanq. All rights reserved.
+ *
+ * This software is the confidential and proprietary information of lcaohoanq.
+ * You shall not disclose such confidential information and shall use it only in
+ * accordance with the terms of the license agreement you entered into with lcaohoanq.
+ */
+package com.orchid.orchidbe.components;
+
+import com.orchid.orchidbe.domain.role.Role.RoleName;
+import io.jsonwebtoken.Claims;
+import java.time.Instant;
+import java.util.Date;
+
+/**
+ * A JWT whose signature and expiry have already been checked by {@link JwtTokenUtils}. Produced
+ * once per request by the filter and handed along (as the authentication credentials) so nothing
+ * downstream has to parse the same token again. The {@link TokenDigest} is computed alongside, it
+ * is the key the token is stored and revoked under.
+ */
+public record VerifiedToken(String token, String digest, Claims claims) {
+
+    public VerifiedToken(String token, Claims claims) {
+        this(token, TokenDigest.sha256Hex(token), claims);
+    }
+
+    public String email() {
+        return claims.getSubject();
+    }
+
+    public Long userId() {
+        return claims.get("userId", Long.class);
+    }
+
+    public RoleName role() {
+        String role = claims.get("role", String.class);
+        return role == null ? null : RoleName.valueOf(role);
+    }
+
+    public Integer version() {
+        return claims.get("ver", Integer.class);
+    }
+
+    public Date expiration() {
+        return claims.getExpiration();
+    }
+
+    public Instant expiresAt() {
+        return claims.getExpiration().toInstant();
+    }
+}
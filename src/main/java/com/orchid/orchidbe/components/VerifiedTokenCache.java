@@ -0,0 +1,78 @@
+/**
+ * Copyright (c) 2025 lcaohoanq. All rights reserved.
+ *
+ * This software is the confidential and proprietary information of lcaohoanq.
+ * You shall not disclose such confidential information and shall use it only in
+ * accordance with the terms of the license agreement you entered into with lcaohoanq.
+ */
+package com.orchid.orchidbe.components;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.time.Instant;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Remembers verified JWTs by {@link TokenDigest}, so a client repeating the same bearer token skips
+ * the signature check and JSON parse. An entry never outlives the token's own expiry. Revocation is
+ * still checked on every request by {@link JwtTokenUtils#validateToken}, logout only purges the
+ * entry to free the slot early. Size-bounded with W-TinyLFU eviction, hit and miss counts are
+ * published as the {@code cache.*} meters tagged {@code cache=auth.verified-tokens}.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final JwtTokenUtils jwtTokenUtils;
+    private final Cache<String, VerifiedToken> tokens;
+
+    public VerifiedTokenCache(
+            JwtTokenUtils jwtTokenUtils,
+            MeterRegistry meterRegistry,
+            @Value("${jwt.verified-token-cache.max-size:10000}") long maxSize,
+            @Value("${jwt.verified-token-cache.ttl:10m}") Duration ttl) {
+        this.jwtTokenUtils = jwtTokenUtils;
+        this.tokens =
+                Caffeine.newBuilder()
+                        .maximumSize(maxSize)
+                        .expireAfter(new UntilTokenExpiry(ttl))
+                        .recordStats()
+                        .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, tokens, "auth.verified-tokens");
+    }
+
+    /** Same contract as {@link JwtTokenUtils#verifyToken}, failures are not cached. */
+    public VerifiedToken verify(String token) {
+        return tokens.get(TokenDigest.sha256Hex(token), digest -> jwtTokenUtils.verifyToken(token));
+    }
+
+    public void invalidate(String digest) {
+        tokens.invalidate(digest);
+    }
+
+    /** The configured TTL, shortened to whatever the token has left. */
+    private record UntilTokenExpiry(Duration ttl) implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String digest, VerifiedToken token, long currentTime) {
+            Duration left = Duration.between(Instant.now(), token.expiresAt());
+            return Math.max(0, Math.min(ttl.toNanos(), left.toNanos()));
+        }
+
+        @Override
+        public long expireAfterUpdate(
+                String digest, VerifiedToken token, long currentTime, long currentDuration) {
+            return expireAfterCreate(digest, token, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(
+                String digest, VerifiedToken token, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
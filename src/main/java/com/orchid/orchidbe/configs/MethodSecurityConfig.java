@@ -0,0 +1,40 @@
+/**
+ * Copyright (c) 2025 lcaohoanq. All rights reserved.
+ *
+ * This software is the confidential and proprietary information of lcaohoanq.
+ * You shall not disclose such confidential information and shall use it only in
+ * accordance with the terms of the license agreement you entered into with lcaohoanq.
+ */
+package com.orchid.orchidbe.configs;
+
+import com.orchid.orchidbe.security.RoleAuthorizationManager;
+import org.springframework.aop.Advisor;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.security.authorization.method.AuthorizationManagerBeforeMethodInterceptor;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
+
+/**
+ * {@code @PreAuthorize} backed by {@link RoleAuthorizationManager} instead of per-call SpEL. The
+ * built-in pre/post support is switched off so the annotation is not evaluated twice; nothing here
+ * uses {@code @PostAuthorize}, {@code @PreFilter} or {@code @PostFilter}.
+ */
+@Configuration
+@EnableMethodSecurity(prePostEnabled = false)
+public class MethodSecurityConfig {
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static RoleAuthorizationManager roleAuthorizationManager() {
+        return new RoleAuthorizationManager();
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor preAuthorizeAuthorizationMethodInterceptor(
+            RoleAuthorizationManager roleAuthorizationManager) {
+        return AuthorizationManagerBeforeMethodInterceptor.preAuthorize(roleAuthorizationManager);
+    }
+}
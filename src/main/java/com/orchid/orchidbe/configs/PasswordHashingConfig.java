@@ -0,0 +1,84 @@
+/**
+ * Copyright (c) 2025 lcaohoanq. All rights reserved.
+ *
+ * This software is the confidential and proprietary information of lcaohoanq.
+ * You shall not disclose such confidential information and shall use it only in
+ * accordance with the terms of the license agreement you entered into with lcaohoanq.
+ */
+package com.orchid.orchidbe.configs;
+
+import com.orchid.orchidbe.security.BCryptCalibration;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Dedicated executor for BCrypt work (see {@link
+ * com.orchid.orchidbe.security.BoundedPasswordEncoder}). Sized to the core count since hashing is
+ * pure CPU; the queue is bounded and overflow is rejected rather than run on the caller. Also
+ * settles the BCrypt cost, measured against a target hash time unless pinned.
+ */
+@Configuration
+@Slf4j
+public class PasswordHashingConfig {
+
+    @Bean
+    public BCryptCalibration bcryptCalibration(
+            @Value("${security.password-hashing.bcrypt.strength:0}") int strength,
+            @Value("${security.password-hashing.bcrypt.target-ms:80}") long targetMillis,
+            @Value("${security.password-hashing.bcrypt.min-strength:10}") int minStrength,
+            @Value("${security.password-hashing.bcrypt.max-strength:16}") int maxStrength) {
+        if (strength > 0) {
+            // min-strength is the floor for pinned costs too, a typo must not weaken new hashes
+            if (strength < minStrength) {
+                log.warn(
+                        "BCrypt strength {} is below the minimum, using {}", strength, minStrength);
+            }
+            return BCryptCalibration.fixed(Math.max(strength, minStrength));
+        }
+        return BCryptCalibration.calibrate(targetMillis, minStrength, maxStrength);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolExecutor passwordHashingExecutor(
+            @Value("${security.password-hashing.pool-size:0}") int poolSize,
+            @Value("${security.password-hashing.queue-capacity:64}") int queueCapacity,
+            MeterRegistry meterRegistry) {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadFactory threadFactory =
+                runnable -> {
+                    Thread thread =
+                            new Thread(runnable, "password-hash-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                };
+        ThreadPoolExecutor executor =
+                new ThreadPoolExecutor(
+                        threads,
+                        threads,
+                        0L,
+                        TimeUnit.MILLISECONDS,
+                        new ArrayBlockingQueue<>(queueCapacity),
+                        threadFactory,
+                        new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("auth.password.hashing.queue.depth", executor, e -> e.getQueue().size())
+                .description("Password hashing requests waiting for a thread")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password hashes currently being computed")
+                .register(meterRegistry);
+
+        log.info("🔐 Password hashing pool: {} threads, queue capacity {}", threads, queueCapacity);
+        return executor;
+    }
+}
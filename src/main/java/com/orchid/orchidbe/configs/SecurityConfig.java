@@ -8,7 +8,12 @@
 package com.orchid.orchidbe.configs;
 
 import com.orchid.orchidbe.repositories.AccountRepository;
+import com.orchid.orchidbe.security.BCryptCalibration;
+import com.orchid.orchidbe.security.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.ThreadPoolExecutor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -36,8 +41,16 @@ public class SecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            BCryptCalibration bcryptCalibration,
+            ThreadPoolExecutor passwordHashingExecutor,
+            MeterRegistry meterRegistry,
+            @Value("${security.password-hashing.retry-after:1}") long retryAfterSeconds) {
+        return new BoundedPasswordEncoder(
+                new BCryptPasswordEncoder(bcryptCalibration.getStrength()),
+                passwordHashingExecutor,
+                meterRegistry,
+                retryAfterSeconds);
     }
 
     @Bean
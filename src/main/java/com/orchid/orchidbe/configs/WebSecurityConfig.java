@@ -8,6 +8,7 @@
 package com.orchid.orchidbe.configs;
 
 import static org.springframework.http.HttpMethod.GET;
+import static org.springframework.http.HttpMethod.POST;
 
 import com.orchid.orchidbe.filters.JwtTokenFilter;
 import java.util.Arrays;
@@ -15,7 +16,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
@@ -24,13 +24,15 @@ import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.access.AccessDeniedHandler;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import org.springframework.web.servlet.config.annotation.EnableWebMvc;
 
 @Configuration
-@EnableMethodSecurity
 @EnableWebSecurity
 @RequiredArgsConstructor
 @EnableWebMvc
@@ -43,8 +45,14 @@ public class WebSecurityConfig {
     @Value("${api.prefix}")
     private String apiPrefix;
 
+    @Value("${jwt.filter.skip-token-free-routes:true}")
+    private boolean skipTokenFreeRoutes;
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+        if (skipTokenFreeRoutes) {
+            jwtTokenFilter.setTokenFreeRoutes(tokenFreeRoutes());
+        }
         http.cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .sessionManagement(
                         session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
@@ -62,6 +70,8 @@ public class WebSecurityConfig {
                                         .requestMatchers(
                                                 String.format("%s/auth/login", apiPrefix),
                                                 String.format("%s/auth/register", apiPrefix),
+                                                String.format("%s/auth/refresh-token", apiPrefix),
+                                                String.format("%s/auth/introspect", apiPrefix),
                                                 String.format("%s/public/**", apiPrefix))
                                         .permitAll()
                                         .requestMatchers(
@@ -100,6 +110,23 @@ public class WebSecurityConfig {
         return http.build();
     }
 
+    /**
+     * Public routes whose handlers never read the principal, so a token sent along (possibly stale)
+     * is not even looked at. A permitAll route that does read it, e.g. to personalise the response,
+     * must not be listed here.
+     */
+    private RequestMatcher tokenFreeRoutes() {
+        var paths = PathPatternRequestMatcher.withDefaults();
+        return new OrRequestMatcher(
+                paths.matcher(POST, apiPrefix + "/auth/login"),
+                paths.matcher(POST, apiPrefix + "/auth/register"),
+                paths.matcher(POST, apiPrefix + "/auth/refresh-token"),
+                // callers present the introspection key, the bearer header is not theirs
+                paths.matcher(POST, apiPrefix + "/auth/introspect"),
+                paths.matcher(GET, apiPrefix + "/orchids/**"),
+                paths.matcher(GET, apiPrefix + "/categories/**"));
+    }
+
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
@@ -127,14 +154,16 @@ public class WebSecurityConfig {
                         "Accept",
                         "Origin",
                         "Access-Control-Request-Method",
-                        "Access-Control-Request-Headers"));
+                        "Access-Control-Request-Headers",
+                        "If-None-Match"));
 
         configuration.setAllowCredentials(true);
         configuration.setExposedHeaders(
                 Arrays.asList(
                         "Access-Control-Allow-Origin",
                         "Access-Control-Allow-Credentials",
-                        "Authorization"));
+                        "Authorization",
+                        "ETag"));
         configuration.setMaxAge(3600L);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
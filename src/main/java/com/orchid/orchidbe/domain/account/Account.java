@@ -11,6 +11,8 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.orchid.orchidbe.domain.role.Role;
+import com.orchid.orchidbe.domain.role.Role.RoleName;
+import com.orchid.orchidbe.security.AccountPrincipal;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -18,29 +20,28 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import jakarta.validation.constraints.Size;
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.UserDetails;
 
 @Entity(name = "accounts")
+@Table(indexes = @Index(name = "ux_accounts_email", columnList = "email", unique = true))
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 @JsonPropertyOrder({"id", "name", "email", "role", "createdAt", "updatedAt", "status", "enabled"})
-public class Account implements UserDetails {
+public class Account implements AccountPrincipal {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -76,14 +77,22 @@ public class Account implements UserDetails {
     @Enumerated(EnumType.ORDINAL)
     private UserEnum.Status status;
 
+    // Bumped whenever the role changes and by revokeAllSessions, tokens carrying an older value
+    // are rejected
+    @Column(name = "token_version", nullable = false)
+    @JsonIgnore
+    private int tokenVersion;
+
+    @Override
+    @JsonIgnore
+    public RoleName getRoleName() {
+        return role == null ? null : role.getName();
+    }
+
     // Spring Security
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        List<SimpleGrantedAuthority> authorityList = new ArrayList<>();
-        authorityList.add(new SimpleGrantedAuthority("ROLE_" + getRole().getName()));
-        // authorityList.add(new SimpleGrantedAuthority("ROLE_ADMIN"));
-
-        return authorityList;
+        return getRole().getName().authorities();
     }
 
     // why getUserName() is return email
@@ -24,4 +24,7 @@ public interface AccountService {
     void update(Long id, AccountDTO.UpdateAccountReq account);
 
     void delete(Long id);
+
+    /** Invalidates every session of the account, on every device. */
+    void revokeAllSessions(Long id);
 }
@@ -7,6 +7,8 @@
  */
 package com.orchid.orchidbe.domain.account;
 
+import com.orchid.orchidbe.components.SessionStore;
+import com.orchid.orchidbe.components.TokenVersionCache;
 import com.orchid.orchidbe.domain.account.AccountDTO.UpdateAccountReq;
 import com.orchid.orchidbe.domain.role.Role.RoleName;
 import com.orchid.orchidbe.domain.role.RoleService;
@@ -19,6 +21,8 @@ import org.apache.commons.lang3.StringUtils;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.server.ResponseStatusException;
 
 @Service
@@ -29,6 +33,8 @@ public class AccountServiceImpl implements AccountService {
     private final AccountRepository accountRepository;
     private final PasswordEncoder passwordEncoder;
     private final RoleService roleService;
+    private final TokenVersionCache tokenVersionCache;
+    private final SessionStore sessionStore;
 
     @Override
     public List<AccountDTO.AccountResp> getAll() {
@@ -116,7 +122,10 @@ public class AccountServiceImpl implements AccountService {
         if (StringUtils.isNotBlank(account.name())) {
             existingAccount.setName(account.name());
         }
+        // Email and role travel inside issued tokens, changing them outdates those tokens
+        boolean claimsChanged = false;
         if (StringUtils.isNotBlank(account.email())) {
+            claimsChanged = !account.email().equals(existingAccount.getEmail());
             existingAccount.setEmail(account.email());
         }
         if (account.roleName() != null) {
@@ -124,9 +133,30 @@ public class AccountServiceImpl implements AccountService {
             if (role == null) {
                 throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Role not found");
             }
+            claimsChanged |= role.getName() != existingAccount.getRoleName();
             existingAccount.setRole(role);
         }
+        if (claimsChanged) {
+            existingAccount.setTokenVersion(existingAccount.getTokenVersion() + 1);
+        }
         accountRepository.save(existingAccount);
+        boolean retireSessions = claimsChanged;
+        afterCommit(
+                () -> {
+                    tokenVersionCache.evict(id);
+                    if (retireSessions) {
+                        // the new version retires every session issued with the old claims
+                        sessionStore.removeAccount(id);
+                    }
+                });
+    }
+
+    @Override
+    public void revokeAllSessions(Long id) {
+        if (accountRepository.incrementTokenVersion(id) == 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Account not found");
+        }
+        afterCommit(() -> forget(id));
     }
 
     @Override
@@ -134,5 +164,30 @@ public class AccountServiceImpl implements AccountService {
     public void delete(Long id) {
         var existingAccount = getById(id);
         accountRepository.delete(existingAccount);
+        afterCommit(() -> forget(id));
+    }
+
+    private void forget(Long id) {
+        tokenVersionCache.evict(id);
+        sessionStore.removeAccount(id);
+    }
+
+    /**
+     * Runs {@code action} once the current transaction has committed, right away without one.
+     * Evicting before the commit would let a concurrent request read the old row and cache it again
+     * for the whole TTL.
+     */
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        action.run();
+                    }
+                });
     }
 }
@@ -7,27 +7,37 @@
  */
 package com.orchid.orchidbe.domain.auth;
 
+import com.orchid.orchidbe.annotations.auth.IntrospectApiResponses;
+import com.orchid.orchidbe.annotations.auth.IntrospectOperation;
 import com.orchid.orchidbe.annotations.auth.LoginApiResponses;
 import com.orchid.orchidbe.annotations.auth.LoginOperation;
+import com.orchid.orchidbe.annotations.auth.LogoutAllOperation;
 import com.orchid.orchidbe.annotations.auth.LogoutApiResponses;
 import com.orchid.orchidbe.annotations.auth.LogoutOperation;
+import com.orchid.orchidbe.annotations.auth.RefreshTokenApiResponses;
+import com.orchid.orchidbe.annotations.auth.RefreshTokenOperation;
 import com.orchid.orchidbe.annotations.auth.RegisterApiResponses;
 import com.orchid.orchidbe.annotations.auth.RegisterOperation;
 import com.orchid.orchidbe.apis.MyApiResponse;
+import com.orchid.orchidbe.components.RateLimiter;
 import com.orchid.orchidbe.domain.account.AccountDTO;
 import com.orchid.orchidbe.domain.account.AccountService;
 import com.orchid.orchidbe.domain.auth.AuthPort.LoginResponse;
+import com.orchid.orchidbe.domain.token.TokenPort;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import java.util.concurrent.TimeUnit;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -45,6 +55,7 @@ public class AuthController {
 
     AccountService userService;
     AuthService authService;
+    RateLimiter rateLimiter;
 
     @LoginOperation
     @LoginApiResponses
@@ -52,6 +63,7 @@ public class AuthController {
     public ResponseEntity<MyApiResponse<LoginResponse>> login(
             @RequestBody @Valid AuthPort.LoginReq loginReq, HttpServletRequest request)
             throws Exception {
+        rateLimiter.check("login", request.getRemoteAddr(), loginReq.email());
         return MyApiResponse.success(authService.login(loginReq, request));
     }
 
@@ -59,11 +71,24 @@ public class AuthController {
     @RegisterOperation
     @RegisterApiResponses
     public ResponseEntity<MyApiResponse<Object>> createAccount(
-            @RequestBody @Valid AccountDTO.CreateAccountReq accountReq) {
+            @RequestBody @Valid AccountDTO.CreateAccountReq accountReq,
+            HttpServletRequest request) {
+        rateLimiter.check("register", request.getRemoteAddr(), accountReq.email());
         userService.add(accountReq);
         return MyApiResponse.created();
     }
 
+    @RefreshTokenOperation
+    @RefreshTokenApiResponses
+    @PostMapping("/refresh-token")
+    public ResponseEntity<MyApiResponse<LoginResponse>> refreshToken(
+            @RequestBody @Valid TokenPort.RefreshTokenDTO refreshTokenDTO,
+            HttpServletRequest request)
+            throws Exception {
+        rateLimiter.check("refresh-token", request.getRemoteAddr(), null);
+        return MyApiResponse.success(authService.refreshToken(refreshTokenDTO));
+    }
+
     @LogoutOperation
     @LogoutApiResponses
     @PostMapping("/logout")
@@ -72,4 +97,28 @@ public class AuthController {
         authService.logout(request);
         return MyApiResponse.noContent();
     }
+
+    @IntrospectOperation
+    @IntrospectApiResponses
+    @PostMapping("/introspect")
+    public ResponseEntity<MyApiResponse<TokenPort.IntrospectRes>> introspect(
+            @RequestHeader(value = "X-Introspection-Key", required = false) String introspectionKey,
+            @RequestBody @Valid TokenPort.IntrospectReq introspectReq) {
+        var res = authService.introspect(introspectionKey, introspectReq);
+        long maxAge = res.cacheMaxAge();
+        return MyApiResponse.success(
+                res,
+                maxAge > 0
+                        ? CacheControl.maxAge(maxAge, TimeUnit.SECONDS).cachePrivate()
+                        : CacheControl.noStore());
+    }
+
+    @LogoutAllOperation
+    @LogoutApiResponses
+    @PostMapping("/logout-all")
+    @PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_USER', 'ROLE_STAFF')")
+    public ResponseEntity<MyApiResponse<Object>> logoutAll() {
+        authService.logoutAll();
+        return MyApiResponse.noContent();
+    }
 }
@@ -14,8 +14,6 @@ import jakarta.servlet.http.HttpServletRequest;
 
 public interface AuthService {
 
-    Account getUserDetailsFromRefreshToken(String refreshToken) throws Exception;
-
     Account getUserDetailsFromToken(String token) throws Exception;
 
     AuthPort.LoginResponse login(LoginReq loginReq, HttpServletRequest request);
@@ -23,4 +21,8 @@ public interface AuthService {
     AuthPort.LoginResponse refreshToken(TokenPort.RefreshTokenDTO refreshTokenDTO) throws Exception;
 
     void logout(HttpServletRequest request);
+
+    void logoutAll();
+
+    TokenPort.IntrospectRes introspect(String introspectionKey, TokenPort.IntrospectReq req);
 }
@@ -8,23 +8,33 @@
 package com.orchid.orchidbe.domain.auth;
 
 import com.orchid.orchidbe.components.JwtTokenUtils;
+import com.orchid.orchidbe.components.OpaqueSession;
+import com.orchid.orchidbe.components.VerifiedToken;
 import com.orchid.orchidbe.domain.account.Account;
 import com.orchid.orchidbe.domain.account.AccountService;
 import com.orchid.orchidbe.domain.auth.AuthPort.LoginReq;
 import com.orchid.orchidbe.domain.auth.AuthPort.LoginResponse;
 import com.orchid.orchidbe.domain.token.Token;
+import com.orchid.orchidbe.domain.token.TokenPort;
 import com.orchid.orchidbe.domain.token.TokenPort.RefreshTokenDTO;
 import com.orchid.orchidbe.domain.token.TokenService;
+import com.orchid.orchidbe.exceptions.JwtAuthenticationException;
 import com.orchid.orchidbe.exceptions.TokenNotFoundException;
 import com.orchid.orchidbe.repositories.AccountRepository;
-import com.orchid.orchidbe.repositories.TokenRepository;
+import com.orchid.orchidbe.security.AccountPrincipal;
+import com.orchid.orchidbe.security.BCryptCalibration;
 import jakarta.servlet.http.HttpServletRequest;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -40,45 +50,64 @@ public class AuthServiceImpl implements AuthService {
     private final TokenService tokenService;
     private final JwtTokenUtils jwtTokenUtils;
     private final AccountRepository accountRepository;
-    private final AuthenticationManager authenticationManager;
     private final PasswordEncoder passwordEncoder;
-    private final TokenRepository tokenRepository;
+    private final BCryptCalibration bcryptCalibration;
+
+    private static final int PARALLEL_INTROSPECTION_THRESHOLD = 8;
+
+    @Value("${auth.introspection.api-key:}")
+    private String introspectionKey;
+
+    @Value("${auth.introspection.max-tokens:100}")
+    private int introspectionMaxTokens;
 
     @Override
     public LoginResponse login(LoginReq loginReq, HttpServletRequest request) {
         log.info("Login body received: {}", loginReq);
         String email = loginReq.email();
         String password = loginReq.password();
-        String token;
 
-        Optional<Account> optionalUser = accountRepository.findByEmail(email);
-        if (optionalUser.isEmpty()) {
-            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Wrong email or password");
+        // the one read of the login: account and role, verified and reused from here on
+        Account existingUser =
+                accountRepository
+                        .findByEmail(email)
+                        .orElseThrow(
+                                () ->
+                                        new ResponseStatusException(
+                                                HttpStatus.UNAUTHORIZED,
+                                                "Wrong email or password"));
+        if (!passwordEncoder.matches(password, existingUser.getPassword())) {
+            throw new BadCredentialsException("Wrong email or password");
         }
+        rehashIfOutdated(existingUser, password);
 
-        Account existingUser = optionalUser.get();
-
-        UsernamePasswordAuthenticationToken authenticationToken =
-                new UsernamePasswordAuthenticationToken(
-                        email, password, existingUser.getAuthorities());
-        authenticationManager.authenticate(authenticationToken);
-        token = jwtTokenUtils.generateToken(existingUser);
-
+        String token = tokenService.issueAccessToken(existingUser);
         String userAgent = request.getHeader("User-Agent");
-        Account userDetail = getUserDetailsFromToken(token);
-        Token jwtToken =
-                tokenService.addToken(userDetail.getId(), token, isMobileDevice(userAgent));
+        Token jwtToken = tokenService.addToken(existingUser, token, isMobileDevice(userAgent));
 
         log.info("User logged in successfully");
-        return AuthPort.LoginResponse.from(jwtToken, userDetail);
+        return AuthPort.LoginResponse.from(jwtToken, existingUser);
+    }
+
+    /**
+     * The raw password is only available at login, so that is when a hash stored at a lower cost
+     * (older calibration, weaker hardware) is raised to the current one.
+     */
+    private void rehashIfOutdated(Account account, String rawPassword) {
+        if (!bcryptCalibration.isOutdated(account.getPassword())) {
+            return;
+        }
+        account.setPassword(passwordEncoder.encode(rawPassword));
+        accountRepository.save(account);
+        log.info(
+                "Rehashed password of account {} at cost {}",
+                account.getId(),
+                bcryptCalibration.getStrength());
     }
 
     @Override
     public Account getUserDetailsFromToken(String token) {
-        if (jwtTokenUtils.isTokenExpired(token)) {
-            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Token is expired");
-        }
-        String email = jwtTokenUtils.extractEmail(token);
+        String email = emailOf(token);
         Optional<Account> user = accountRepository.findByEmail(email);
         if (user.isEmpty()) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Account not found");
@@ -86,39 +115,85 @@ public class AuthServiceImpl implements AuthService {
         return user.get();
     }
 
-    @Override
-    public Account getUserDetailsFromRefreshToken(String refreshToken) throws Exception {
-        Token existingToken =
-                tokenRepository
-                        .findByRefreshToken(refreshToken)
-                        .orElseThrow(
-                                () -> new TokenNotFoundException("Refresh token does not exist"));
-        return getUserDetailsFromToken(existingToken.getToken());
-    }
-
     @Override
     public LoginResponse refreshToken(RefreshTokenDTO refreshTokenDTO) throws Exception {
-        Account userDetail = getUserDetailsFromRefreshToken(refreshTokenDTO.refreshToken());
-        Token jwtToken = tokenService.refreshToken(refreshTokenDTO.refreshToken(), userDetail);
-        return AuthPort.LoginResponse.from(jwtToken, userDetail);
+        // the old access token is never looked at, the refresh token row knows its account
+        Token jwtToken = tokenService.refreshToken(refreshTokenDTO.refreshToken());
+        return AuthPort.LoginResponse.from(jwtToken, jwtToken.getAccount());
     }
 
     @Override
     public void logout(HttpServletRequest request) {
-        String token = jwtTokenUtils.extractBearerToken(request);
-        if (token == null) {
-            throw new TokenNotFoundException("Token not found");
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        // JwtTokenFilter already verified the bearer token, reuse it instead of parsing again
+        VerifiedToken verifiedToken;
+        if (authentication.getCredentials() instanceof VerifiedToken credentials) {
+            verifiedToken = credentials;
+        } else {
+            String token = jwtTokenUtils.extractBearerToken(request);
+            if (token == null) {
+                throw new TokenNotFoundException("Token not found");
+            }
+            verifiedToken = verify(token);
         }
 
-        if (jwtTokenUtils.isTokenExpired(token)) {
-            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Token is expired");
+        var userDetails = (UserDetails) authentication.getPrincipal();
+        var user = accountService.getByEmail(userDetails.getUsername());
+
+        tokenService.deleteToken(verifiedToken, user);
+    }
+
+    @Override
+    public TokenPort.IntrospectRes introspect(
+            String introspectionKey, TokenPort.IntrospectReq req) {
+        // no key configured means the endpoint is off
+        if (this.introspectionKey.isBlank()
+                || introspectionKey == null
+                || !MessageDigest.isEqual(
+                        this.introspectionKey.getBytes(StandardCharsets.UTF_8),
+                        introspectionKey.getBytes(StandardCharsets.UTF_8))) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid introspection key");
         }
+        List<String> tokens = req.tokens();
+        if (tokens.size() > introspectionMaxTokens) {
+            throw new IllegalArgumentException(
+                    "At most " + introspectionMaxTokens + " tokens per call");
+        }
+        // signature checks are CPU bound, spread larger batches over the cores
+        Stream<String> stream =
+                tokens.size() < PARALLEL_INTROSPECTION_THRESHOLD
+                        ? tokens.stream()
+                        : tokens.parallelStream();
+        return new TokenPort.IntrospectRes(stream.map(tokenService::introspect).toList());
+    }
 
-        var userDetails =
-                (UserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-        var user = accountService.getByEmail(userDetails.getUsername());
+    @Override
+    public void logoutAll() {
+        var principal =
+                (AccountPrincipal)
+                        SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        accountService.revokeAllSessions(principal.getId());
+    }
 
-        tokenService.deleteToken(token, user);
+    private String emailOf(String token) {
+        // JWTs always contain dots, opaque tokens never do
+        if (token.indexOf('.') >= 0) {
+            return verify(token).email();
+        }
+        OpaqueSession session = tokenService.resolveSession(token);
+        if (session == null) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid token");
+        }
+        return session.email();
+    }
+
+    private VerifiedToken verify(String token) {
+        try {
+            return jwtTokenUtils.verifyToken(token);
+        } catch (JwtAuthenticationException e) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, e.getMessage());
+        }
     }
 
     private boolean isMobileDevice(String userAgent) {
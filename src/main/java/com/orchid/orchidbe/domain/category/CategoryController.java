@@ -7,7 +7,9 @@
  */
 package com.orchid.orchidbe.domain.category;
 
+import com.orchid.orchidbe.apis.ConditionalGet;
 import com.orchid.orchidbe.apis.MyApiResponse;
+import com.orchid.orchidbe.components.CatalogVersions;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -15,6 +17,8 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -23,6 +27,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -32,12 +37,25 @@ import org.springframework.web.bind.annotation.RestController;
 @Tag(name = "categories", description = "Operations related to Categories")
 public class CategoryController {
     private final CategoryService categoryService;
+    private final CatalogVersions versions;
+
+    @Value("${catalog.http-cache.categories:no-cache}")
+    private String listCacheControl;
+
+    @Value("${catalog.http-cache.category:no-cache}")
+    private String itemCacheControl;
 
     @GetMapping
     @Operation(summary = "Get all categories", description = "Returns a list of all categories")
     @ApiResponse(responseCode = "200", description = "Successfully retrieved all categories")
-    public ResponseEntity<MyApiResponse<List<Category>>> getCategories() {
-        return MyApiResponse.success(categoryService.getAll());
+    public ResponseEntity<MyApiResponse<List<Category>>> getCategories(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+                    String ifNoneMatch) {
+        return ConditionalGet.respond(
+                ifNoneMatch,
+                versions.tag(CatalogVersions.CATEGORIES),
+                listCacheControl,
+                () -> MyApiResponse.success(categoryService.getAll()));
     }
 
     @GetMapping("/{id}")
@@ -47,8 +65,15 @@ public class CategoryController {
                 @ApiResponse(responseCode = "200", description = "Category found"),
                 @ApiResponse(responseCode = "404", description = "Category not found")
             })
-    public ResponseEntity<MyApiResponse<Category>> getCategoryById(@PathVariable Long id) {
-        return MyApiResponse.success(categoryService.getById(id));
+    public ResponseEntity<MyApiResponse<Category>> getCategoryById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+                    String ifNoneMatch) {
+        return ConditionalGet.respond(
+                ifNoneMatch,
+                versions.tag(CatalogVersions.CATEGORIES, id),
+                itemCacheControl,
+                () -> MyApiResponse.success(categoryService.getById(id)));
     }
 
     @PostMapping("")
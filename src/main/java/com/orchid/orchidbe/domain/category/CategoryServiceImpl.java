@@ -7,6 +7,7 @@
  */
 package com.orchid.orchidbe.domain.category;
 
+import com.orchid.orchidbe.components.CatalogVersions;
 import com.orchid.orchidbe.repositories.CategoryRepository;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -17,6 +18,7 @@ import org.springframework.stereotype.Service;
 public class CategoryServiceImpl implements CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final CatalogVersions versions;
 
     @Override
     public List<Category> getAll() {
@@ -42,6 +44,7 @@ public class CategoryServiceImpl implements CategoryService {
         newCategory.setName(category.name());
 
         categoryRepository.save(newCategory);
+        versions.bump(CatalogVersions.CATEGORIES);
     }
 
     @Override
@@ -57,11 +60,13 @@ public class CategoryServiceImpl implements CategoryService {
         existingCategory.setName(category.name());
 
         categoryRepository.save(existingCategory);
+        versions.bump(CatalogVersions.CATEGORIES, id);
     }
 
     @Override
     public void delete(Long id) {
         var existingCategory = getById(id);
         categoryRepository.delete(existingCategory);
+        versions.bump(CatalogVersions.CATEGORIES, id);
     }
 }
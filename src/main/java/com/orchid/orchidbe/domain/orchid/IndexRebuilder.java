@@ -0,0 +1,122 @@
+/**
+ * Copyright (c) 2025 lcaohoanq. All rights reserved.
+ *
+ * This software is the confidential and proprietary information of lcaohoanq.
+ * You shall not disclose such confidential information and shall use it only in
+ * accordance with the terms of the license agreement you entered into with lcaohoanq.
+ */
+package com.orchid.orchidbe.domain.orchid;
+
+import com.orchid.orchidbe.domain.orchid.OrchidDTO.OrchidRes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Swaps a rebuilt in-memory index in without blocking its readers. The catalog is indexed into a
+ * new instance that nothing else references, without the lock, and the write lock is only taken to
+ * hand that state over to the live instance. Writes made between {@link #begin} and the swap are
+ * recorded and replayed onto the new instance first, since the rows it was built from may predate
+ * them.
+ *
+ * @param <T> the index, whose writes all go through {@link #write}
+ */
+public final class IndexRebuilder<T> {
+
+    /** A rebuild in progress. Closing it without completing stops the recording. */
+    public interface Rebuild extends AutoCloseable {
+
+        /** Indexes {@code orchids} into a new instance, then swaps it in under the write lock. */
+        void complete(Collection<OrchidRes> orchids);
+
+        @Override
+        void close();
+    }
+
+    private final T index;
+    private final ReadWriteLock lock;
+    private final Function<Collection<OrchidRes>, T> build;
+    private final BiConsumer<T, T> adopt;
+    // writes made while a rebuild is in progress, null otherwise
+    private List<Consumer<T>> pending;
+
+    /**
+     * @param index the live instance, guarded by {@code lock}
+     * @param build indexes rows into a new instance, called without the lock
+     * @param adopt makes the live instance take over the state of a new one
+     */
+    IndexRebuilder(
+            T index,
+            ReadWriteLock lock,
+            Function<Collection<OrchidRes>, T> build,
+            BiConsumer<T, T> adopt) {
+        this.index = index;
+        this.lock = lock;
+        this.build = build;
+        this.adopt = adopt;
+    }
+
+    /** Starts recording writes, read the rows for {@link Rebuild#complete} after this. */
+    Rebuild begin() {
+        var rebuild = new Recording();
+        lock.writeLock().lock();
+        try {
+            pending = rebuild.writes;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return rebuild;
+    }
+
+    /** Applies {@code write} to the live instance under the write lock. */
+    void write(Consumer<T> write) {
+        lock.writeLock().lock();
+        try {
+            if (pending != null) {
+                pending.add(write);
+            }
+            write.accept(index);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private final class Recording implements Rebuild {
+
+        private final List<Consumer<T>> writes = new ArrayList<>();
+
+        @Override
+        public void complete(Collection<OrchidRes> orchids) {
+            T fresh = build.apply(orchids);
+            lock.writeLock().lock();
+            try {
+                writes.forEach(write -> write.accept(fresh));
+                adopt.accept(index, fresh);
+                stopRecording();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        @Override
+        public void close() {
+            lock.writeLock().lock();
+            try {
+                stopRecording();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private void stopRecording() {
+            // a newer rebuild may have started meanwhile, its recording goes on
+            if (pending == writes) {
+                pending = null;
+            }
+        }
+    }
+}
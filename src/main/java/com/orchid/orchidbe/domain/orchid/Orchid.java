@@ -16,8 +16,10 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -25,6 +27,11 @@ import lombok.Setter;
 import lombok.experimental.SuperBuilder;
 
 @Entity(name = "orchids")
+@Table(
+        indexes = {
+            @Index(name = "ix_orchids_price_id", columnList = "price, id"),
+            @Index(name = "ix_orchids_name_id", columnList = "name, id")
+        })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,101 @@
+/**
+ * Copyright (c) 2025 lcaohoanq. All rights reserved.
+ *
+ * This software is the confidential and proprietary information of lcaohoanq.
+ * You shall not disclose such confidential information and shall use it only in
+ * accordance with the terms of the license agreement you entered into with lcaohoanq.
+ */
+package com.orchid.orchidbe.domain.orchid;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.orchid.orchidbe.domain.orchid.OrchidDTO.OrchidRes;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Read-through cache of {@link OrchidRes} for {@link OrchidServiceImpl}. Size-bounded with
+ * W-TinyLFU eviction plus a TTL, hit, miss and eviction counts are published as the {@code cache.*}
+ * meters tagged {@code cache=orchids.by-id}, {@code orchids.all} and {@code orchids.pages}.
+ *
+ * <p>A write drops the changed orchid and every list. Lists are keyed by a generation that each
+ * write bumps, so a list loaded concurrently with the write lands under a key nobody asks for any
+ * more instead of being served stale. Single orchids need no such guard, Caffeine holds the
+ * invalidation until an in-flight load of the same key has finished.
+ */
+@Component
+public class OrchidCache {
+
+    private final AtomicLong generation = new AtomicLong();
+    private final Cache<Long, OrchidRes> byId;
+    private final Cache<Long, List<OrchidRes>> all;
+    private final Cache<PageKey, Page<OrchidRes>> pages;
+
+    public OrchidCache(
+            MeterRegistry meterRegistry,
+            @Value("${catalog.orchid-cache.max-size:10000}") long maxSize,
+            @Value("${catalog.orchid-cache.max-pages:1000}") long maxPages,
+            @Value("${catalog.orchid-cache.ttl:10m}") Duration ttl) {
+        this.byId = build(maxSize, ttl);
+        // only the current generation is ever read, the spare slot absorbs a write racing a load
+        this.all = build(2, ttl);
+        this.pages = build(maxPages, ttl);
+        CaffeineCacheMetrics.monitor(meterRegistry, byId, "orchids.by-id");
+        CaffeineCacheMetrics.monitor(meterRegistry, all, "orchids.all");
+        CaffeineCacheMetrics.monitor(meterRegistry, pages, "orchids.pages");
+    }
+
+    private static <K, V> Cache<K, V> build(long maxSize, Duration ttl) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    /** Failures, such as an unknown id, are not cached. */
+    public OrchidRes getById(Long id, Function<Long, OrchidRes> loader) {
+        return byId.get(id, loader);
+    }
+
+    /** Cached orchids plus one {@code loader} call for the rest, unknown ids are left out. */
+    public Map<Long, OrchidRes> getAllById(
+            Iterable<Long> ids, Function<Set<? extends Long>, Map<Long, OrchidRes>> loader) {
+        return byId.getAll(ids, loader);
+    }
+
+    public List<OrchidRes> getAll(Supplier<List<OrchidRes>> loader) {
+        return all.get(generation.get(), key -> loader.get());
+    }
+
+    public Page<OrchidRes> getPage(Pageable pageable, Function<Pageable, Page<OrchidRes>> loader) {
+        return pages.get(
+                new PageKey(generation.get(), pageable), key -> loader.apply(key.pageable()));
+    }
+
+    /** After an orchid was added, once the write is committed. */
+    public void invalidateLists() {
+        generation.incrementAndGet();
+        all.invalidateAll();
+        pages.invalidateAll();
+    }
+
+    /** After the orchid was changed or removed, once the write is committed. */
+    public void invalidate(Long id) {
+        byId.invalidate(id);
+        invalidateLists();
+    }
+
+    private record PageKey(long generation, Pageable pageable) {}
+}
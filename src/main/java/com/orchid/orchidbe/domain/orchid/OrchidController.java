@@ -7,15 +7,26 @@
  */
 package com.orchid.orchidbe.domain.orchid;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.orchid.orchidbe.apis.ConditionalGet;
 import com.orchid.orchidbe.apis.MyApiResponse;
+import com.orchid.orchidbe.components.CatalogVersions;
+import com.orchid.orchidbe.domain.orchid.OrchidDTO.OrchidFacets;
+import com.orchid.orchidbe.domain.orchid.OrchidDTO.OrchidHit;
 import com.orchid.orchidbe.domain.orchid.OrchidDTO.OrchidRes;
+import com.orchid.orchidbe.domain.orchid.OrchidDTO.OrchidSlice;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.io.UncheckedIOException;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -24,8 +35,11 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("${api.prefix}/orchids")
@@ -34,10 +48,53 @@ import org.springframework.web.bind.annotation.RestController;
 public class OrchidController {
 
     private final OrchidService orchidService;
+    private final CatalogVersions versions;
+    private final ObjectMapper objectMapper;
+
+    @Value("${catalog.http-cache.orchids:no-cache}")
+    private String listCacheControl;
+
+    @Value("${catalog.http-cache.orchid:no-cache}")
+    private String itemCacheControl;
 
     @GetMapping
-    public ResponseEntity<?> getOrchids() {
-        return ResponseEntity.ok(orchidService.getAll());
+    public ResponseEntity<?> getOrchids(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+                    String ifNoneMatch) {
+        return ConditionalGet.respond(
+                ifNoneMatch,
+                versions.tag(CatalogVersions.ORCHIDS),
+                listCacheControl,
+                () -> ResponseEntity.ok(orchidService.getAll()));
+    }
+
+    @GetMapping(
+            value = "/export",
+            produces = {MediaType.APPLICATION_NDJSON_VALUE, OrchidExport.CSV_VALUE})
+    @Operation(
+            summary = "Export all orchids",
+            description =
+                    "The whole catalog by id, streamed page by page: one JSON object per line,"
+                            + " or CSV with a header row when Accept prefers text/csv")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        var format = OrchidExport.Format.negotiate(accept);
+        StreamingResponseBody body =
+                out -> {
+                    var writer = OrchidExport.open(format, out, objectMapper);
+                    try {
+                        orchidService.export(writer);
+                    } catch (UncheckedIOException e) {
+                        throw e.getCause();
+                    }
+                    writer.flush();
+                };
+        return ResponseEntity.ok()
+                .contentType(format.mediaType)
+                .header(
+                        HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"orchids." + format.extension + "\"")
+                .body(body);
     }
 
     @GetMapping("/paged")
@@ -59,9 +116,76 @@ public class OrchidController {
         return MyApiResponse.success(res);
     }
 
+    @GetMapping(value = "/paged", params = "cursor")
+    @PreAuthorize("permitAll()")
+    @Operation(
+            summary = "List orchids by cursor",
+            description =
+                    "Keyset pagination, chosen by passing a cursor. Start with an empty cursor,"
+                            + " then pass the nextCursor of each response until it is absent."
+                            + " Runs no count query and costs the same at any depth")
+    @Parameter(name = "cursor", description = "Empty, or nextCursor of the previous page")
+    @Parameter(name = "size", description = "Number of records per page", example = "10")
+    @Parameter(
+            name = "sort",
+            description =
+                    "id, price or name, optionally followed by ,asc or ,desc. Only read with an"
+                            + " empty cursor, later pages keep the sort of the first one",
+            example = "price,asc")
+    public ResponseEntity<MyApiResponse<OrchidSlice>> getAll(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "id,asc") String sort) {
+        return MyApiResponse.success(orchidService.getAll(cursor, sort, size));
+    }
+
+    @GetMapping("/search")
+    @PreAuthorize("permitAll()")
+    @Operation(
+            summary = "Search orchids",
+            description =
+                    "Full-text search over orchid names and descriptions, ranked by relevance."
+                            + " Matches any of the words, case and accents are ignored")
+    @Parameter(name = "q", description = "Search words", example = "white phalaenopsis")
+    @Parameter(name = "limit", description = "Maximum number of results", example = "20")
+    public ResponseEntity<MyApiResponse<List<OrchidHit>>> search(
+            @RequestParam("q") String query, @RequestParam(defaultValue = "20") int limit) {
+        return MyApiResponse.success(orchidService.search(query, limit));
+    }
+
+    @GetMapping("/facets")
+    @PreAuthorize("permitAll()")
+    @Operation(
+            summary = "Filter orchids",
+            description =
+                    "Orchids matching every given filter, ordered by id, with per-category and"
+                            + " per-natural-flag counts. Each facet is counted against the other"
+                            + " filters, so selecting a category keeps the counts of the others")
+    @Parameter(name = "categoryId", description = "Only this category", example = "1")
+    @Parameter(name = "minPrice", description = "Lowest price, inclusive", example = "10")
+    @Parameter(name = "maxPrice", description = "Highest price, inclusive", example = "50")
+    @Parameter(name = "natural", description = "Natural or hybrid orchids only", example = "true")
+    @Parameter(name = "size", description = "Number of orchids returned", example = "20")
+    public ResponseEntity<MyApiResponse<OrchidFacets>> filter(
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) Double minPrice,
+            @RequestParam(required = false) Double maxPrice,
+            @RequestParam(required = false) Boolean natural,
+            @RequestParam(defaultValue = "20") int size) {
+        var filter = new OrchidFacetIndex.Filter(categoryId, minPrice, maxPrice, natural);
+        return MyApiResponse.success(orchidService.filter(filter, size));
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<?> getOrchidById(@PathVariable("id") Long id) {
-        return ResponseEntity.ok(orchidService.getById(id));
+    public ResponseEntity<?> getOrchidById(
+            @PathVariable("id") Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+                    String ifNoneMatch) {
+        return ConditionalGet.respond(
+                ifNoneMatch,
+                versions.tag(CatalogVersions.ORCHIDS, id),
+                itemCacheControl,
+                () -> ResponseEntity.ok(orchidService.getById(id)));
     }
 
     @PostMapping("")
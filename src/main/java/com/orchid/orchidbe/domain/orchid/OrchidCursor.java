@@ -0,0 +1,140 @@
+/**
+ * Copyright (c) 2025 lcaohoanq. All rights reserved.
+ *
+ * This software is the confidential and proprietary information of lcaohoanq.
+ * You shall not disclose such confidential information and shall use it only in
+ * accordance with the terms of the license agreement you entered into with lcaohoanq.
+ */
+package com.orchid.orchidbe.domain.orchid;
+
+import com.orchid.orchidbe.domain.orchid.OrchidDTO.OrchidRes;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Position in a keyset walk over the orchid catalog: the sort key and id of the last row a client
+ * has seen. Travels as an opaque URL-safe token, so the sort chosen on the first request is kept
+ * for the whole walk.
+ *
+ * <p>Rows with a null sort key come after all others in either direction, ordered by id. A position
+ * with an id but no key is inside that tail.
+ *
+ * @param afterKey last sort key seen, null at the start or inside the null tail
+ * @param afterId last id seen, null at the start
+ */
+public record OrchidCursor(Key key, boolean descending, Object afterKey, Long afterId) {
+
+    /** The sortable columns, each has an index on (column, id). */
+    public enum Key {
+        ID("id", false, Long::valueOf, OrchidRes::id),
+        PRICE("price", true, Double::valueOf, OrchidRes::price),
+        NAME("name", true, Function.identity(), OrchidRes::name);
+
+        private final String property;
+        private final boolean nullable;
+        private final Function<String, Object> parser;
+        private final Function<OrchidRes, Object> getter;
+
+        Key(
+                String property,
+                boolean nullable,
+                Function<String, ?> parser,
+                Function<OrchidRes, ?> getter) {
+            this.property = property;
+            this.nullable = nullable;
+            this.parser = parser::apply;
+            this.getter = getter::apply;
+        }
+
+        public String property() {
+            return property;
+        }
+
+        public boolean nullable() {
+            return nullable;
+        }
+
+        static Key of(String property) {
+            return Arrays.stream(values())
+                    .filter(key -> key.property.equals(property))
+                    .findFirst()
+                    .orElseThrow(
+                            () ->
+                                    new IllegalArgumentException(
+                                            "Cannot sort by "
+                                                    + property
+                                                    + ", allowed: "
+                                                    + Arrays.stream(values())
+                                                            .map(Key::property)
+                                                            .collect(Collectors.joining(", "))));
+        }
+    }
+
+    private static final String SEPARATOR = ":";
+
+    /** Start of a walk, {@code sort} is {@code property[,asc|desc]} as for pageable requests. */
+    public static OrchidCursor first(String sort) {
+        String[] parts = sort.split(",", 2);
+        boolean descending = parts.length > 1 && isDescending(parts[1].trim());
+        return new OrchidCursor(Key.of(parts[0].trim()), descending, null, null);
+    }
+
+    /** Continues the walk after {@code last}, the final row of the page just served. */
+    public OrchidCursor after(OrchidRes last) {
+        Object value = key == Key.ID ? null : key.getter.apply(last);
+        return new OrchidCursor(key, descending, value, last.id());
+    }
+
+    public boolean isStart() {
+        return afterId == null;
+    }
+
+    public boolean inNullTail() {
+        return afterId != null && afterKey == null && key != Key.ID;
+    }
+
+    /** {@code key:asc|desc:id[:value]}, the value is left out when null. */
+    public String encode() {
+        String raw =
+                String.join(
+                        SEPARATOR, key.property, descending ? "desc" : "asc", afterId.toString());
+        if (afterKey != null) {
+            raw += SEPARATOR + afterKey;
+        }
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static OrchidCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            // the value goes last and may itself contain the separator
+            String[] parts = raw.split(SEPARATOR, 4);
+            Key key = Key.of(parts[0]);
+            if (!parts[1].equals("asc") && !parts[1].equals("desc")) {
+                throw new IllegalArgumentException(parts[1]);
+            }
+            Long afterId = Long.valueOf(parts[2]);
+            Object afterKey = parts.length == 4 ? key.parser.apply(parts[3]) : null;
+            if (key == Key.ID && afterKey != null) {
+                throw new IllegalArgumentException(parts[3]);
+            }
+            return new OrchidCursor(key, isDescending(parts[1]), afterKey, afterId);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    private static boolean isDescending(String direction) {
+        return switch (direction.toLowerCase(Locale.ROOT)) {
+            case "asc" -> false;
+            case "desc" -> true;
+            default -> throw new IllegalArgumentException("Invalid sort direction " + direction);
+        };
+    }
+}
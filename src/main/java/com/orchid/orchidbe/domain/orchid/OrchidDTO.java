@@ -13,6 +13,8 @@ import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 
 public interface OrchidDTO {
 
@@ -40,4 +42,20 @@ public interface OrchidDTO {
                     LocalDateTime createdAt,
             @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'", timezone = "Asia/Ho_Chi_Minh")
                     LocalDateTime updatedAt) {}
+
+    /** One keyset page, {@code nextCursor} is null on the last one. */
+    record OrchidSlice(List<OrchidRes> content, String nextCursor) {}
+
+    /** A search result, {@code score} is its BM25 relevance to the query. */
+    record OrchidHit(float score, OrchidRes orchid) {}
+
+    /**
+     * Filtered listing, {@code total} counts every match. Each facet value is counted against the
+     * filters on the other facets.
+     */
+    record OrchidFacets(
+            int total,
+            List<OrchidRes> content,
+            Map<Long, Integer> categories,
+            Map<Boolean, Integer> natural) {}
 }
@@ -0,0 +1,160 @@
+/**
+ * Copyright (c) 2025 lcaohoanq. All rights reserved.
+ *
+ * This software is the confidential and proprietary information of lcaohoanq.
+ * You shall not disclose such confidential information and shall use it only in
+ * accordance with the terms of the license agreement you entered into with lcaohoanq.
+ */
+package com.orchid.orchidbe.domain.orchid;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.orchid.orchidbe.domain.orchid.OrchidDTO.OrchidRes;
+import java.io.BufferedWriter;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.function.Consumer;
+import org.springframework.http.MediaType;
+
+/**
+ * Writes orchids to the response one line at a time, as the export pages come in, so no more than a
+ * page is held on the way. Write errors, usually the client going away, surface as {@link
+ * UncheckedIOException} from {@link RowWriter#accept}.
+ */
+final class OrchidExport {
+
+    static final String CSV_VALUE = "text/csv";
+
+    private static final String CSV_HEADER =
+            "id,isNatural,description,name,url,price,categoryId,createdAt,updatedAt";
+
+    private OrchidExport() {}
+
+    enum Format {
+        NDJSON(MediaType.APPLICATION_NDJSON, "ndjson"),
+        CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv");
+
+        final MediaType mediaType;
+        final String extension;
+
+        Format(MediaType mediaType, String extension) {
+            this.mediaType = mediaType;
+            this.extension = extension;
+        }
+
+        /** The first of the two the {@code Accept} header asks for, NDJSON when it has none. */
+        static Format negotiate(String accept) {
+            if (accept == null || accept.isBlank()) {
+                return NDJSON;
+            }
+            var types = MediaType.parseMediaTypes(accept);
+            // stable, so equal qualities keep the client's order
+            types.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+            for (MediaType type : types) {
+                if (type.isCompatibleWith(NDJSON.mediaType)) {
+                    return NDJSON;
+                }
+                if (type.isCompatibleWith(CSV.mediaType)) {
+                    return CSV;
+                }
+            }
+            return NDJSON;
+        }
+    }
+
+    interface RowWriter extends Consumer<OrchidRes>, Flushable {}
+
+    static RowWriter open(Format format, OutputStream out, ObjectMapper objectMapper)
+            throws IOException {
+        return switch (format) {
+            case NDJSON -> ndjson(out, objectMapper);
+            case CSV -> csv(out);
+        };
+    }
+
+    private static RowWriter ndjson(OutputStream out, ObjectMapper objectMapper)
+            throws IOException {
+        JsonGenerator generator =
+                objectMapper
+                        .getFactory()
+                        .createGenerator(out)
+                        .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        // the generator buffers, flushing after every row would mean a write per orchid
+        ObjectWriter writer =
+                objectMapper
+                        .writerFor(OrchidRes.class)
+                        .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        return new RowWriter() {
+            @Override
+            public void accept(OrchidRes orchid) {
+                try {
+                    writer.writeValue(generator, orchid);
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+
+            @Override
+            public void flush() throws IOException {
+                generator.flush();
+            }
+        };
+    }
+
+    private static RowWriter csv(OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write("\r\n");
+        return new RowWriter() {
+            @Override
+            public void accept(OrchidRes orchid) {
+                try {
+                    writer.write(
+                            String.join(
+                                    ",",
+                                    String.valueOf(orchid.id()),
+                                    String.valueOf(orchid.isNatural()),
+                                    field(orchid.description()),
+                                    field(orchid.name()),
+                                    field(orchid.url()),
+                                    field(orchid.price()),
+                                    field(orchid.categoryId()),
+                                    field(orchid.createdAt()),
+                                    field(orchid.updatedAt())));
+                    writer.write("\r\n");
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+
+            @Override
+            public void flush() throws IOException {
+                writer.flush();
+            }
+        };
+    }
+
+    /** RFC 4180: quoted when it holds a comma, quote or line break, quotes doubled. */
+    static String field(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return '"' + text.replace("\"", "\"\"") + '"';
+            }
+        }
+        return text;
+    }
+}
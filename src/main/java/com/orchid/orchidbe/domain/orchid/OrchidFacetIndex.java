@@ -0,0 +1,257 @@
+/**
+ * Copyright (c) 2025 lcaohoanq. All rights reserved.
+ *
+ * This software is the confidential and proprietary information of lcaohoanq.
+ * You shall not disclose such confidential information and shall use it only in
+ * accordance with the terms of the license agreement you entered into with lcaohoanq.
+ */
+package com.orchid.orchidbe.domain.orchid;
+
+import com.orchid.orchidbe.domain.orchid.OrchidDTO.OrchidRes;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+
+/**
+ * Facet filters over the orchid catalog, answered in memory. Keeps a compressed bitmap of orchid
+ * ids per category and per value of the natural flag, plus the priced orchids sorted by price, so a
+ * price range is two binary searches. A query intersects the bitmaps of the active filters and
+ * counts every facet value against the other filters only, the usual multi-select semantics:
+ * picking a category does not zero the counts of the other categories.
+ *
+ * <p>Reads share a lock, writes are rare and take it exclusively, rebuilds go through {@link
+ * IndexRebuilder}.
+ */
+@Component
+public class OrchidFacetIndex {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Map<Integer, Facets> byId = new HashMap<>();
+    private Map<Long, RoaringBitmap> byCategory = new HashMap<>();
+    private RoaringBitmap natural = new RoaringBitmap();
+    private RoaringBitmap cultivated = new RoaringBitmap();
+    private RoaringBitmap all = new RoaringBitmap();
+    private double[] prices = new double[16];
+    private int[] pricedIds = new int[16];
+    private int priced;
+    private final IndexRebuilder<OrchidFacetIndex> rebuilder =
+            new IndexRebuilder<>(this, lock, OrchidFacetIndex::indexed, OrchidFacetIndex::adopt);
+
+    /** Which orchids match, {@code null} fields do not filter. Price bounds are inclusive. */
+    public record Filter(Long categoryId, Double minPrice, Double maxPrice, Boolean natural) {}
+
+    /**
+     * @param total number of matching orchids
+     * @param ids the first matching ids in ascending order, at most the requested limit
+     * @param categories per category, how many orchids match the other filters
+     * @param natural per flag value, how many orchids match the other filters
+     */
+    public record Result(
+            int total, int[] ids, Map<Long, Integer> categories, Map<Boolean, Integer> natural) {}
+
+    private record Facets(Long categoryId, boolean natural, Double price) {}
+
+    /** Starts a rebuild, see {@link IndexRebuilder}. */
+    public IndexRebuilder.Rebuild beginRebuild() {
+        return rebuilder.begin();
+    }
+
+    /** Adds the orchid, or replaces what was indexed for it. */
+    public void put(long id, Long categoryId, boolean isNatural, Double price) {
+        rebuilder.write(index -> index.replace(key(id), categoryId, isNatural, price));
+    }
+
+    public void remove(long id) {
+        rebuilder.write(index -> index.delete(key(id)));
+    }
+
+    public Result query(Filter filter, int limit) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap byPrice = priceRange(filter.minPrice(), filter.maxPrice());
+            RoaringBitmap inCategory =
+                    filter.categoryId() == null
+                            ? null
+                            : byCategory.getOrDefault(filter.categoryId(), new RoaringBitmap());
+            RoaringBitmap byFlag =
+                    filter.natural() == null ? null : filter.natural() ? natural : cultivated;
+
+            // each facet is counted against the filters on the other facets
+            RoaringBitmap forCategories = and(byPrice, byFlag);
+            RoaringBitmap forFlags = and(byPrice, inCategory);
+            RoaringBitmap matches = and(forCategories, inCategory);
+
+            Map<Long, Integer> categories = new TreeMap<>();
+            byCategory.forEach(
+                    (categoryId, members) ->
+                            categories.put(categoryId, count(members, forCategories)));
+            Map<Boolean, Integer> flags = new TreeMap<>();
+            flags.put(true, count(natural, forFlags));
+            flags.put(false, count(cultivated, forFlags));
+
+            int[] ids = new int[Math.max(0, Math.min(limit, matches.getCardinality()))];
+            var it = matches.getIntIterator();
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = it.next();
+            }
+            return new Result(matches.getCardinality(), ids, categories, flags);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** The priced orchids within the bounds, or null when neither bound is set. */
+    private RoaringBitmap priceRange(Double min, Double max) {
+        if (min == null && max == null) {
+            return null;
+        }
+        int from = min == null ? 0 : firstAtLeast(min, false);
+        int to = max == null ? priced : firstAtLeast(max, true);
+        if (from >= to) {
+            return new RoaringBitmap();
+        }
+        return RoaringBitmap.bitmapOfUnordered(Arrays.copyOfRange(pricedIds, from, to));
+    }
+
+    /** First position whose price is at least {@code price}, or above it when {@code after}. */
+    private int firstAtLeast(double price, boolean after) {
+        int low = 0;
+        int high = priced;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (prices[mid] < price || (after && prices[mid] == price)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /** Intersection of the given filters, null ones match everything. */
+    private RoaringBitmap and(RoaringBitmap left, RoaringBitmap right) {
+        if (left == null && right == null) {
+            return all;
+        }
+        if (left == null || right == null) {
+            return RoaringBitmap.and(all, left == null ? right : left);
+        }
+        return RoaringBitmap.and(left, right);
+    }
+
+    private static int count(RoaringBitmap members, RoaringBitmap filter) {
+        return RoaringBitmap.andCardinality(members, filter);
+    }
+
+    private void replace(int id, Long categoryId, boolean isNatural, Double price) {
+        delete(id);
+        add(id, categoryId, isNatural, price);
+        if (price != null) {
+            insertPrice(id, price);
+        }
+    }
+
+    /** A new index over {@code orchids}. */
+    private static OrchidFacetIndex indexed(Collection<OrchidRes> orchids) {
+        var fresh = new OrchidFacetIndex();
+        for (OrchidRes orchid : orchids) {
+            fresh.add(key(orchid.id()), orchid.categoryId(), orchid.isNatural(), orchid.price());
+        }
+        fresh.sortPrices();
+        return fresh;
+    }
+
+    /** Sorts the priced orchids once, single writes insert in place. */
+    private void sortPrices() {
+        Integer[] order =
+                byId.entrySet().stream()
+                        .filter(entry -> entry.getValue().price() != null)
+                        .map(Map.Entry::getKey)
+                        .toArray(Integer[]::new);
+        Arrays.sort(order, Comparator.comparingDouble(id -> byId.get(id).price()));
+        priced = order.length;
+        prices = new double[Math.max(16, priced)];
+        pricedIds = new int[prices.length];
+        for (int i = 0; i < priced; i++) {
+            pricedIds[i] = order[i];
+            prices[i] = byId.get(order[i]).price();
+        }
+    }
+
+    /** Takes over the state of {@code other}, which nothing else references. */
+    private void adopt(OrchidFacetIndex other) {
+        byId = other.byId;
+        byCategory = other.byCategory;
+        natural = other.natural;
+        cultivated = other.cultivated;
+        all = other.all;
+        prices = other.prices;
+        pricedIds = other.pricedIds;
+        priced = other.priced;
+    }
+
+    private void add(int id, Long categoryId, boolean isNatural, Double price) {
+        byId.put(id, new Facets(categoryId, isNatural, price));
+        all.add(id);
+        (isNatural ? natural : cultivated).add(id);
+        if (categoryId != null) {
+            byCategory.computeIfAbsent(categoryId, key -> new RoaringBitmap()).add(id);
+        }
+    }
+
+    private void delete(int id) {
+        Facets facets = byId.remove(id);
+        if (facets == null) {
+            return;
+        }
+        all.remove(id);
+        (facets.natural() ? natural : cultivated).remove(id);
+        if (facets.categoryId() != null) {
+            RoaringBitmap members = byCategory.get(facets.categoryId());
+            members.remove(id);
+            if (members.isEmpty()) {
+                byCategory.remove(facets.categoryId());
+            }
+        }
+        if (facets.price() != null) {
+            removePrice(id, facets.price());
+        }
+    }
+
+    private void insertPrice(int id, double price) {
+        if (priced == prices.length) {
+            prices = Arrays.copyOf(prices, priced * 2);
+            pricedIds = Arrays.copyOf(pricedIds, priced * 2);
+        }
+        int at = firstAtLeast(price, true);
+        System.arraycopy(prices, at, prices, at + 1, priced - at);
+        System.arraycopy(pricedIds, at, pricedIds, at + 1, priced - at);
+        prices[at] = price;
+        pricedIds[at] = id;
+        priced++;
+    }
+
+    private void removePrice(int id, double price) {
+        for (int at = firstAtLeast(price, false); at < priced && prices[at] == price; at++) {
+            if (pricedIds[at] == id) {
+                System.arraycopy(prices, at + 1, prices, at, priced - at - 1);
+                System.arraycopy(pricedIds, at + 1, pricedIds, at, priced - at - 1);
+                priced--;
+                return;
+            }
+        }
+    }
+
+    /** Bitmaps hold ints, orchid ids are far from needing more. */
+    private static int key(long id) {
+        return Math.toIntExact(id);
+    }
+}
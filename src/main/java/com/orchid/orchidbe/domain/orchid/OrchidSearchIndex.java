@@ -0,0 +1,388 @@
+/**
+ * Copyright (c) 2025 lcaohoanq. All rights reserved.
+ *
+ * This software is the confidential and proprietary information of lcaohoanq.
+ * You shall not disclose such confidential information and shall use it only in
+ * accordance with the terms of the license agreement you entered into with lcaohoanq.
+ */
+package com.orchid.orchidbe.domain.orchid;
+
+import com.orchid.orchidbe.domain.orchid.OrchidDTO.OrchidRes;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory inverted index over orchid names and descriptions, ranked with BM25. Name terms count
+ * twice, so a match in the name outranks the same match in the description.
+ *
+ * <p>Every document gets an int slot, postings are parallel primitive arrays of slots, term
+ * frequencies and precomputed BM25 impacts in slot order, so a query is a multiply-add per posting
+ * into a score array followed by a top-k heap. A change removes the old slot and appends a new one,
+ * removed slots are skipped by queries and reclaimed once they outnumber the live ones. Reads share
+ * a lock, writes are rare and take it exclusively, rebuilds go through {@link IndexRebuilder}.
+ */
+@Component
+public class OrchidSearchIndex {
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final int NAME_BOOST = 2;
+    private static final int MIN_SLOTS_TO_COMPACT = 1024;
+
+    private final float k1;
+    private final float b;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Map<String, Postings> postings = new HashMap<>();
+    private Map<Long, Integer> slotsById = new HashMap<>();
+    private long[] ids = new long[16];
+    private int[] lengths = new int[16];
+    private Postings[][] termsBySlot = new Postings[16][];
+    private int slots;
+    private int live;
+    private long totalLength;
+    // the average document length the stored impacts were computed with
+    private float impactLength = 1;
+    private final IndexRebuilder<OrchidSearchIndex> rebuilder;
+
+    public OrchidSearchIndex(
+            @Value("${catalog.search.bm25.k1:1.2}") float k1,
+            @Value("${catalog.search.bm25.b:0.75}") float b) {
+        this.k1 = k1;
+        this.b = b;
+        this.rebuilder = new IndexRebuilder<>(this, lock, this::indexed, OrchidSearchIndex::adopt);
+    }
+
+    public record Hit(long id, float score) {}
+
+    /** Starts a rebuild, see {@link IndexRebuilder}. */
+    public IndexRebuilder.Rebuild beginRebuild() {
+        return rebuilder.begin();
+    }
+
+    /** Adds the orchid, or replaces what was indexed for it. */
+    public void put(long id, String name, String description) {
+        rebuilder.write(index -> index.replace(id, name, description));
+    }
+
+    public void remove(long id) {
+        rebuilder.write(index -> index.discard(id));
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return live;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** The best {@code limit} matches for any of the query terms, highest score first. */
+    public List<Hit> search(String query, int limit) {
+        Set<String> terms = new LinkedHashSet<>(tokenize(query));
+        lock.readLock().lock();
+        try {
+            if (terms.isEmpty() || live == 0 || limit <= 0) {
+                return List.of();
+            }
+            float[] scores = new float[slots];
+            for (String term : terms) {
+                Postings list = postings.get(term);
+                if (list == null || list.documents == 0) {
+                    continue;
+                }
+                float idf =
+                        (float)
+                                Math.log(
+                                        1 + (live - list.documents + 0.5) / (list.documents + 0.5));
+                // removed slots are scored too and dropped by top(), no branch in this loop
+                int[] slotsOf = list.slots;
+                float[] impacts = list.impacts;
+                for (int i = 0; i < list.size; i++) {
+                    scores[slotsOf[i]] += idf * impacts[i];
+                }
+            }
+            return top(scores, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Hit> top(float[] scores, int limit) {
+        // min-heap of the best slots so far, the weakest on top
+        int[] heap = new int[Math.min(limit, live)];
+        int size = 0;
+        float floor = 0;
+        for (int slot = 0; slot < scores.length; slot++) {
+            if (scores[slot] <= 0 || termsBySlot[slot] == null) {
+                continue;
+            }
+            if (size < heap.length) {
+                heap[size] = slot;
+                siftUp(heap, size++, scores);
+                if (size == heap.length) {
+                    floor = scores[heap[0]];
+                }
+            } else if (scores[slot] > floor) {
+                // an equal score loses, the slot on top is older
+                heap[0] = slot;
+                siftDown(heap, size, scores);
+                floor = scores[heap[0]];
+            }
+        }
+        Hit[] hits = new Hit[size];
+        for (int i = size - 1; i >= 0; i--) {
+            int slot = heap[0];
+            hits[i] = new Hit(ids[slot], scores[slot]);
+            heap[0] = heap[i];
+            siftDown(heap, i, scores);
+        }
+        return Arrays.asList(hits);
+    }
+
+    /** Higher score wins, ties go to the older slot so results are stable. */
+    private static boolean better(int slot, int other, float[] scores) {
+        return scores[slot] > scores[other] || (scores[slot] == scores[other] && slot < other);
+    }
+
+    private static void siftUp(int[] heap, int index, float[] scores) {
+        while (index > 0) {
+            int parent = (index - 1) / 2;
+            if (!better(heap[parent], heap[index], scores)) {
+                return;
+            }
+            swap(heap, parent, index);
+            index = parent;
+        }
+    }
+
+    private static void siftDown(int[] heap, int size, float[] scores) {
+        int index = 0;
+        while (true) {
+            int weakest = index;
+            for (int child = 2 * index + 1; child <= 2 * index + 2 && child < size; child++) {
+                if (better(heap[weakest], heap[child], scores)) {
+                    weakest = child;
+                }
+            }
+            if (weakest == index) {
+                return;
+            }
+            swap(heap, index, weakest);
+            index = weakest;
+        }
+    }
+
+    private static void swap(int[] heap, int i, int j) {
+        int tmp = heap[i];
+        heap[i] = heap[j];
+        heap[j] = tmp;
+    }
+
+    private void replace(long id, String name, String description) {
+        delete(id);
+        add(id, name, description);
+        compactIfSparse();
+        refreshImpacts(false);
+    }
+
+    private void discard(long id) {
+        delete(id);
+        compactIfSparse();
+        refreshImpacts(false);
+    }
+
+    /** A new index over {@code orchids}. */
+    private OrchidSearchIndex indexed(Collection<OrchidRes> orchids) {
+        var fresh = new OrchidSearchIndex(k1, b);
+        for (OrchidRes orchid : orchids) {
+            fresh.add(orchid.id(), orchid.name(), orchid.description());
+        }
+        fresh.refreshImpacts(true);
+        return fresh;
+    }
+
+    /** Takes over the state of {@code other}, which nothing else references. */
+    private void adopt(OrchidSearchIndex other) {
+        postings = other.postings;
+        slotsById = other.slotsById;
+        ids = other.ids;
+        lengths = other.lengths;
+        termsBySlot = other.termsBySlot;
+        slots = other.slots;
+        live = other.live;
+        totalLength = other.totalLength;
+        impactLength = other.impactLength;
+    }
+
+    private void add(long id, String name, String description) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String term : tokenize(name)) {
+            frequencies.merge(term, NAME_BOOST, Integer::sum);
+        }
+        for (String term : tokenize(description)) {
+            frequencies.merge(term, 1, Integer::sum);
+        }
+        if (frequencies.isEmpty()) {
+            return;
+        }
+        int slot = slots++;
+        ensureCapacity(slots);
+        ids[slot] = id;
+        int length = frequencies.values().stream().mapToInt(Integer::intValue).sum();
+        Postings[] terms = new Postings[frequencies.size()];
+        int t = 0;
+        for (var entry : frequencies.entrySet()) {
+            Postings list = postings.computeIfAbsent(entry.getKey(), key -> new Postings());
+            list.append(slot, entry.getValue(), impact(entry.getValue(), length));
+            terms[t++] = list;
+        }
+        lengths[slot] = length;
+        termsBySlot[slot] = terms;
+        slotsById.put(id, slot);
+        live++;
+        totalLength += length;
+    }
+
+    private void delete(long id) {
+        Integer slot = slotsById.remove(id);
+        if (slot == null) {
+            return;
+        }
+        for (Postings list : termsBySlot[slot]) {
+            list.documents--;
+        }
+        termsBySlot[slot] = null;
+        live--;
+        totalLength -= lengths[slot];
+    }
+
+    /** Renumbers the live slots and drops the removed ones from every postings list. */
+    private void compactIfSparse() {
+        if (slots < MIN_SLOTS_TO_COMPACT || slots - live <= live) {
+            return;
+        }
+        int[] renumbered = new int[slots];
+        int next = 0;
+        for (int slot = 0; slot < slots; slot++) {
+            if (termsBySlot[slot] == null) {
+                renumbered[slot] = -1;
+                continue;
+            }
+            renumbered[slot] = next;
+            ids[next] = ids[slot];
+            lengths[next] = lengths[slot];
+            termsBySlot[next] = termsBySlot[slot];
+            slotsById.put(ids[next], next);
+            next++;
+        }
+        Arrays.fill(termsBySlot, next, slots, null);
+        slots = next;
+        postings.values().removeIf(list -> !list.renumber(renumbered));
+    }
+
+    /**
+     * Recomputes every impact when the average document length has drifted by more than 1% since
+     * the last time, or when forced. Single writes in between reuse the old average.
+     */
+    private void refreshImpacts(boolean force) {
+        float averageLength = live == 0 ? 1 : (float) totalLength / live;
+        if (!force && Math.abs(averageLength - impactLength) <= impactLength * 0.01f) {
+            return;
+        }
+        impactLength = averageLength;
+        for (Postings list : postings.values()) {
+            for (int i = 0; i < list.size; i++) {
+                list.impacts[i] = impact(list.frequencies[i], lengths[list.slots[i]]);
+            }
+        }
+    }
+
+    /** The BM25 term weight without idf, which depends on the query-time document count. */
+    private float impact(int frequency, int length) {
+        float norm = k1 * (1 - b + b * length / impactLength);
+        return frequency * (k1 + 1) / (frequency + norm);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > ids.length) {
+            int grown = Math.max(capacity, ids.length * 2);
+            ids = Arrays.copyOf(ids, grown);
+            lengths = Arrays.copyOf(lengths, grown);
+            termsBySlot = Arrays.copyOf(termsBySlot, grown);
+        }
+    }
+
+    /** Lower-cased, accent-free runs of letters and digits. */
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String folded =
+                MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD))
+                        .replaceAll("")
+                        .toLowerCase(Locale.ROOT);
+        List<String> terms = new ArrayList<>();
+        for (String term : NON_WORD.split(folded)) {
+            if (!term.isEmpty()) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * Slots in ascending order with their term frequency and precomputed impact, plus the live
+     * document count.
+     */
+    private static final class Postings {
+        private int[] slots = new int[4];
+        private int[] frequencies = new int[4];
+        private float[] impacts = new float[4];
+        private int size;
+        private int documents;
+
+        void append(int slot, int frequency, float impact) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+                impacts = Arrays.copyOf(impacts, size * 2);
+            }
+            slots[size] = slot;
+            frequencies[size] = frequency;
+            impacts[size] = impact;
+            size++;
+            documents++;
+        }
+
+        /** Keeps the surviving slots under their new numbers, false when none survive. */
+        boolean renumber(int[] renumbered) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                int slot = renumbered[slots[i]];
+                if (slot >= 0) {
+                    slots[kept] = slot;
+                    frequencies[kept] = frequencies[i];
+                    impacts[kept] = impacts[i];
+                    kept++;
+                }
+            }
+            size = kept;
+            return kept > 0;
+        }
+    }
+}
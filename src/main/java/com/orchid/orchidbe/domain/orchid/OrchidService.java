@@ -10,6 +10,7 @@ package com.orchid.orchidbe.domain.orchid;
 import com.orchid.orchidbe.domain.orchid.OrchidDTO.OrchidReq;
 import com.orchid.orchidbe.domain.orchid.OrchidDTO.OrchidRes;
 import java.util.List;
+import java.util.function.Consumer;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -19,8 +20,26 @@ public interface OrchidService {
 
     Page<OrchidRes> getAll(Pageable pageable);
 
+    /**
+     * Keyset page of up to {@code size} orchids. A blank {@code cursor} starts a walk sorted by
+     * {@code sort}, otherwise the walk continues in the sort the cursor was issued for.
+     */
+    OrchidDTO.OrchidSlice getAll(String cursor, String sort, int size);
+
     OrchidDTO.OrchidRes getById(Long id);
 
+    /**
+     * Hands every orchid to {@code sink} in id order, one keyset page at a time, never as a list.
+     * No transaction or connection is held while {@code sink} runs.
+     */
+    void export(Consumer<OrchidRes> sink);
+
+    /** Up to {@code limit} orchids whose name or description matches {@code query}, best first. */
+    List<OrchidDTO.OrchidHit> search(String query, int limit);
+
+    /** The first {@code size} orchids matching the filter by id, with the count of each facet. */
+    OrchidDTO.OrchidFacets filter(OrchidFacetIndex.Filter filter, int size);
+
     OrchidDTO.OrchidRes add(OrchidDTO.OrchidReq orchid);
 
     void update(Long id, OrchidReq orchid);
@@ -7,39 +7,159 @@
  */
 package com.orchid.orchidbe.domain.orchid;
 
+import com.orchid.orchidbe.components.CatalogVersions;
 import com.orchid.orchidbe.domain.category.CategoryService;
 import com.orchid.orchidbe.domain.orchid.OrchidDTO.OrchidRes;
 import com.orchid.orchidbe.repositories.OrchidRepository;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class OrchidServiceImpl implements OrchidService {
 
     private final OrchidRepository orchidRepository;
     private final CategoryService categoryService;
+    private final OrchidCache orchidCache;
+    private final OrchidSearchIndex searchIndex;
+    private final OrchidFacetIndex facetIndex;
+    private final CatalogVersions versions;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${catalog.cursor.max-size:100}")
+    private int maxCursorPageSize;
+
+    @Value("${catalog.search.max-results:100}")
+    private int maxSearchResults;
+
+    @Value("${catalog.facets.max-size:100}")
+    private int maxFacetPageSize;
+
+    @Value("${catalog.export.page-size:500}")
+    private int exportPageSize;
 
     @Override
     public List<OrchidDTO.OrchidRes> getAll() {
-        return orchidRepository.findAll().stream().map(Orchid::from).toList();
+        return orchidCache.getAll(() -> orchidRepository.findAllRes());
     }
 
     @Override
     public Page<OrchidRes> getAll(Pageable pageable) {
-        return orchidRepository.findAll(pageable).map(Orchid::from);
+        return orchidCache.getPage(pageable, page -> orchidRepository.findAllRes(page));
+    }
+
+    @Override
+    public OrchidDTO.OrchidSlice getAll(String cursor, String sort, int size) {
+        var position = cursor.isBlank() ? OrchidCursor.first(sort) : OrchidCursor.decode(cursor);
+        int pageSize = Math.max(1, Math.min(size, maxCursorPageSize));
+        // one extra row tells whether another page follows, instead of a count query
+        var rows = orchidRepository.findAfter(position, pageSize + 1);
+        var page = rows.subList(0, Math.min(pageSize, rows.size()));
+        var next =
+                rows.size() > pageSize ? position.after(page.get(page.size() - 1)).encode() : null;
+        return new OrchidDTO.OrchidSlice(List.copyOf(page), next);
     }
 
     @Override
     public OrchidDTO.OrchidRes getById(Long id) {
-        var orchid =
-                orchidRepository
-                        .findById(id)
-                        .orElseThrow(() -> new RuntimeException("Orchid not found with id: " + id));
-        return Orchid.from(orchid);
+        return orchidCache.getById(id, this::load);
+    }
+
+    private OrchidDTO.OrchidRes load(Long id) {
+        return orchidRepository
+                .findResById(id)
+                .orElseThrow(() -> new RuntimeException("Orchid not found with id: " + id));
+    }
+
+    @Override
+    public void export(Consumer<OrchidRes> sink) {
+        // short reads, a slow or stalled download must not keep a pooled connection checked out
+        var position = OrchidCursor.first("id,asc");
+        List<OrchidRes> page;
+        do {
+            var after = position;
+            page =
+                    transactionTemplate.execute(
+                            status -> orchidRepository.findAfter(after, exportPageSize));
+            page.forEach(sink);
+            if (!page.isEmpty()) {
+                position = position.after(page.get(page.size() - 1));
+            }
+        } while (page.size() == exportPageSize);
+    }
+
+    @Override
+    public List<OrchidDTO.OrchidHit> search(String query, int limit) {
+        var hits = searchIndex.search(query, Math.min(limit, maxSearchResults));
+        var orchids = resolve(hits.stream().map(OrchidSearchIndex.Hit::id).toList());
+        return hits.stream()
+                .filter(hit -> orchids.containsKey(hit.id()))
+                .map(hit -> new OrchidDTO.OrchidHit(hit.score(), orchids.get(hit.id())))
+                .toList();
+    }
+
+    @Override
+    public OrchidDTO.OrchidFacets filter(OrchidFacetIndex.Filter filter, int size) {
+        if (filter.minPrice() != null
+                && filter.maxPrice() != null
+                && filter.minPrice() > filter.maxPrice()) {
+            throw new IllegalArgumentException("minPrice must not be greater than maxPrice");
+        }
+        var result = facetIndex.query(filter, Math.max(0, Math.min(size, maxFacetPageSize)));
+        var ids = Arrays.stream(result.ids()).mapToObj(Long::valueOf).toList();
+        var orchids = resolve(ids);
+        return new OrchidDTO.OrchidFacets(
+                result.total(),
+                ids.stream().map(orchids::get).filter(Objects::nonNull).toList(),
+                result.categories(),
+                result.natural());
+    }
+
+    /**
+     * Orchids by id from the cache, the misses in one query. An orchid deleted on another instance
+     * stays in the in-memory indexes until the next rebuild, it is simply missing here.
+     */
+    private Map<Long, OrchidRes> resolve(List<Long> ids) {
+        return orchidCache.getAllById(
+                ids,
+                missing ->
+                        orchidRepository.findResByIdIn(List.copyOf(missing)).stream()
+                                .collect(Collectors.toMap(OrchidRes::id, Function.identity())));
+    }
+
+    /**
+     * Loads the whole catalog into the search and facet indexes. Runs at startup and then
+     * periodically, so changes made through another instance are picked up as well.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${catalog.rebuild-interval:600000}",
+            fixedDelayString = "${catalog.rebuild-interval:600000}")
+    public void rebuildIndexes() {
+        // both start recording before the read, so writes racing it are replayed on the new index
+        try (var search = searchIndex.beginRebuild();
+                var facets = facetIndex.beginRebuild()) {
+            var orchids = orchidRepository.findAllRes();
+            search.complete(orchids);
+            facets.complete(orchids);
+        }
+        log.info("Search and facet indexes hold {} orchids", searchIndex.size());
     }
 
     @Override
@@ -50,6 +170,11 @@ public class OrchidServiceImpl implements OrchidService {
 
         var orchid = Orchid.toEntity(orchidDto);
         var saved = orchidRepository.save(orchid);
+        orchidCache.invalidateLists();
+        versions.bump(CatalogVersions.ORCHIDS);
+        searchIndex.put(saved.getId(), saved.getName(), saved.getDescription());
+        facetIndex.put(
+                saved.getId(), saved.getCategory().getId(), saved.isNatural(), saved.getPrice());
         return Orchid.from(saved);
     }
 
@@ -68,6 +193,10 @@ public class OrchidServiceImpl implements OrchidService {
         orchid.setCategory(categoryService.getById(orchidDto.categoryId()));
 
         orchidRepository.save(orchid);
+        orchidCache.invalidate(id);
+        versions.bump(CatalogVersions.ORCHIDS, id);
+        searchIndex.put(id, orchid.getName(), orchid.getDescription());
+        facetIndex.put(id, orchid.getCategory().getId(), orchid.isNatural(), orchid.getPrice());
     }
 
     @Override
@@ -77,5 +206,9 @@ public class OrchidServiceImpl implements OrchidService {
                         .findById(id)
                         .orElseThrow(() -> new RuntimeException("Orchid not found with id: " + id));
         orchidRepository.delete(orchid);
+        orchidCache.invalidate(id);
+        versions.bump(CatalogVersions.ORCHIDS, id);
+        searchIndex.remove(id);
+        facetIndex.remove(id);
     }
 }
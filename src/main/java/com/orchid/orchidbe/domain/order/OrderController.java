@@ -8,8 +8,8 @@
 package com.orchid.orchidbe.domain.order;
 
 import com.orchid.orchidbe.apis.MyApiResponse;
-import com.orchid.orchidbe.domain.account.Account;
 import com.orchid.orchidbe.domain.order.OrderDTO.OrderRes;
+import com.orchid.orchidbe.security.AccountPrincipal;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import java.util.List;
@@ -65,8 +65,9 @@ public class OrderController {
     @PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_USER', 'ROLE_STAFF', 'ROLE_MANAGER')")
     public ResponseEntity<MyApiResponse<List<OrderDTO.OrderRes>>> getMyOrders(
             Authentication authentication) {
-        Account account =
-                (Account) authentication.getPrincipal(); // principal là chính user từ token
+        AccountPrincipal account =
+                (AccountPrincipal)
+                        authentication.getPrincipal(); // principal là chính user từ token
         Long userId = account.getId();
 
         return MyApiResponse.success(orderService.getByUserId(userId));
@@ -16,11 +16,14 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
 @Entity(name = "roles")
 @Getter
@@ -42,7 +45,15 @@ public class Role {
         MANAGER,
 
         @Schema(description = "Admin role")
-        ADMIN
+        ADMIN;
+
+        // built once, every principal of the role shares it
+        private final List<GrantedAuthority> authorities =
+                List.of(new SimpleGrantedAuthority("ROLE_" + name()));
+
+        public List<GrantedAuthority> authorities() {
+            return authorities;
+        }
     }
 
     @Id
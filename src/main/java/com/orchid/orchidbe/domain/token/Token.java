@@ -9,14 +9,18 @@ package com.orchid.orchidbe.domain.token;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.orchid.orchidbe.components.TokenDigest;
 import com.orchid.orchidbe.domain.account.Account;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -25,6 +29,15 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity(name = "tokens")
+@Table(
+        indexes = {
+            @Index(name = "ux_tokens_token_hash", columnList = "token_hash", unique = true),
+            @Index(
+                    name = "ux_tokens_refresh_token_hash",
+                    columnList = "refresh_token_hash",
+                    unique = true),
+            @Index(name = "ix_tokens_account_id", columnList = "account_id")
+        })
 @Getter
 @Setter
 @AllArgsConstructor
@@ -50,8 +63,16 @@ public class Token {
     @JsonProperty("id")
     private Long id;
 
-    private String token;
-    private String refreshToken;
+    // Raw values are only known to the request that issues them, the table keeps their digests
+    @Transient private String token;
+    @Transient private String refreshToken;
+
+    @Column(name = "token_hash", length = 64)
+    private String tokenHash;
+
+    @Column(name = "refresh_token_hash", length = 64)
+    private String refreshTokenHash;
+
     private String tokenType;
     private LocalDateTime expirationDate;
     private LocalDateTime refreshExpirationDate;
@@ -59,7 +80,21 @@ public class Token {
     private boolean revoked;
     private boolean expired;
 
+    // accounts.token_version when issued, an older value means the session was revoked
+    @Column(name = "account_version", nullable = false)
+    private int accountVersion;
+
     @ManyToOne
     @JoinColumn(name = "account_id", referencedColumnName = "id")
     private Account account;
+
+    public void setToken(String token) {
+        this.token = token;
+        this.tokenHash = token == null ? null : TokenDigest.sha256Hex(token);
+    }
+
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+        this.refreshTokenHash = refreshToken == null ? null : TokenDigest.sha256Hex(refreshToken);
+    }
 }
@@ -9,10 +9,15 @@ package com.orchid.orchidbe.domain.token;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.orchid.orchidbe.domain.role.Role.RoleName;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import java.time.LocalDateTime;
+import java.util.List;
 
 public interface TokenPort {
 
@@ -42,6 +47,43 @@ public interface TokenPort {
             @JsonIgnore Boolean revoked,
             @JsonIgnore Boolean expired) {}
 
+    record IntrospectReq(
+            @NotEmpty(message = "At least one token is required")
+                    List<@NotBlank(message = "Token must not be blank") String> tokens) {}
+
+    record IntrospectRes(List<Introspection> results) {
+
+        /** How long the whole answer may be reused: 0 as soon as one token is not active. */
+        public long cacheMaxAge() {
+            return results.stream()
+                    .mapToLong(result -> result.active() ? result.cacheMaxAge() : 0)
+                    .min()
+                    .orElse(0);
+        }
+    }
+
+    /**
+     * What one token stands for, in the spirit of RFC 7662. Inactive tokens only say so (and
+     * whether they were revoked), {@code exp} is in epoch seconds, {@code cache_max_age} is how
+     * long the answer may be reused.
+     */
+    @JsonInclude(Include.NON_NULL)
+    @JsonPropertyOrder({"active", "revoked", "email", "user_id", "role", "exp", "cache_max_age"})
+    record Introspection(
+            boolean active,
+            boolean revoked,
+            String email,
+            @JsonProperty("user_id") Long userId,
+            RoleName role,
+            Long exp,
+            @JsonProperty("cache_max_age") long cacheMaxAge) {
+
+        public static final Introspection INACTIVE =
+                new Introspection(false, false, null, null, null, null, 0);
+        public static final Introspection REVOKED =
+                new Introspection(false, true, null, null, null, null, 0);
+    }
+
     record AccessTokenReq(
             @JsonProperty("access_token") @NotBlank(message = "Access token is required")
                     String accessToken) {}
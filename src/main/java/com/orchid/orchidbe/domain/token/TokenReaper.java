@@ -0,0 +1,107 @@
+/**
+ * Copyright (c) 2025 lcaohoanq. All rights reserved.
+ *
+ * This software is the confidential and proprietary information of lcaohoanq.
+ * You shall not disclose such confidential information and shall use it only in
+ * accordance with the terms of the license agreement you entered into with lcaohoanq.
+ */
+package com.orchid.orchidbe.domain.token;
+
+import com.orchid.orchidbe.repositories.TokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Deletes token rows that can no longer be used: the refresh token has expired, or the row was
+ * revoked and its access token has expired too. Revoked rows are kept until then because the
+ * revocation index of every instance is rebuilt from them.
+ *
+ * <p>Works in chunks of {@code chunk-size} ids, one short transaction each, with a pause in
+ * between, so a large backlog never turns into one long-running delete holding row locks.
+ */
+@Component
+@Slf4j
+public class TokenReaper {
+
+    private final TokenRepository tokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter reapedRows;
+    private final Timer reapTime;
+
+    @Value("${jwt.reaper.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${jwt.reaper.chunk-pause:100}")
+    private long chunkPauseMillis;
+
+    public TokenReaper(
+            TokenRepository tokenRepository,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry) {
+        this.tokenRepository = tokenRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.reapedRows =
+                Counter.builder("auth.tokens.reaped")
+                        .description("Expired or revoked token rows deleted by the reaper")
+                        .register(meterRegistry);
+        this.reapTime =
+                Timer.builder("auth.tokens.reaper.time")
+                        .description("Time spent per reaper run, pauses included")
+                        .register(meterRegistry);
+    }
+
+    @Scheduled(
+            initialDelayString = "${jwt.reaper.interval:3600000}",
+            fixedDelayString = "${jwt.reaper.interval:3600000}")
+    public void reap() {
+        long reaped = reapTime.record(this::reapAll);
+        if (reaped > 0) {
+            log.info("Reaped {} expired or revoked tokens", reaped);
+        }
+    }
+
+    private long reapAll() {
+        LocalDateTime now = LocalDateTime.now();
+        long total = 0;
+        int deleted;
+        do {
+            deleted = reapChunk(now);
+            total += deleted;
+            reapedRows.increment(deleted);
+        } while (deleted == chunkSize && pause());
+        return total;
+    }
+
+    private int reapChunk(LocalDateTime now) {
+        Integer deleted =
+                transactionTemplate.execute(
+                        status -> {
+                            List<Long> ids =
+                                    tokenRepository.findReapableIds(now, Limit.of(chunkSize));
+                            if (!ids.isEmpty()) {
+                                tokenRepository.deleteAllByIdInBatch(ids);
+                            }
+                            return ids.size();
+                        });
+        return deleted == null ? 0 : deleted;
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(chunkPauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -7,15 +7,29 @@
  */
 package com.orchid.orchidbe.domain.token;
 
+import com.orchid.orchidbe.components.OpaqueSession;
+import com.orchid.orchidbe.components.VerifiedToken;
 import com.orchid.orchidbe.domain.account.Account;
 
 public interface TokenService {
 
-    Token addToken(Long userId, String token, boolean isMobileDevice);
+    /** A new access token for the account: a signed JWT, or a random one in opaque mode. */
+    String issueAccessToken(Account account);
 
-    Token refreshToken(String refreshToken, Account user) throws Exception;
+    /** Opaque mode: the live session behind an access token, or null if there is none. */
+    OpaqueSession resolveSession(String token);
 
-    void deleteToken(String token, Account user);
+    Token addToken(Account account, String token, boolean isMobileDevice);
+
+    /** Rotates both tokens of the session in place, the returned row carries its account. */
+    Token refreshToken(String refreshToken) throws Exception;
+
+    void deleteToken(VerifiedToken token, Account user);
+
+    /** Checks one access token of either kind without touching the database for JWTs. */
+    TokenPort.Introspection introspect(String token);
+
+    void rebuildRevocationIndex();
 
     Token findAccountByToken(String token);
 }
@@ -8,18 +8,43 @@
 package com.orchid.orchidbe.domain.token;
 
 import com.orchid.orchidbe.components.JwtTokenUtils;
+import com.orchid.orchidbe.components.OpaqueSession;
+import com.orchid.orchidbe.components.RevokedToken;
+import com.orchid.orchidbe.components.SessionStore;
+import com.orchid.orchidbe.components.TokenDigest;
+import com.orchid.orchidbe.components.TokenRevocationIndex;
+import com.orchid.orchidbe.components.TokenVersionCache;
+import com.orchid.orchidbe.components.VerifiedToken;
+import com.orchid.orchidbe.components.VerifiedTokenCache;
 import com.orchid.orchidbe.domain.account.Account;
-import com.orchid.orchidbe.domain.account.AccountService;
+import com.orchid.orchidbe.domain.role.Role.RoleName;
+import com.orchid.orchidbe.domain.token.TokenPort.Introspection;
 import com.orchid.orchidbe.exceptions.ExpiredTokenException;
+import com.orchid.orchidbe.exceptions.JwtAuthenticationException;
 import com.orchid.orchidbe.exceptions.TokenNotFoundException;
+import com.orchid.orchidbe.repositories.AccountRepository;
 import com.orchid.orchidbe.repositories.TokenRepository;
+import jakarta.annotation.PreDestroy;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
 import java.util.Objects;
+import java.util.Queue;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.regex.Pattern;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,8 +54,12 @@ import org.springframework.transaction.annotation.Transactional;
 public class TokenServiceImpl implements TokenService {
 
     private static final int MAX_TOKENS = 3;
-    private final AccountService userService;
-    private final AccountService accountService;
+    private static final int OPAQUE_TOKEN_BYTES = 32;
+    // unpadded base64url of OPAQUE_TOKEN_BYTES
+    private static final Pattern OPAQUE_TOKEN = Pattern.compile("[A-Za-z0-9_-]{43}");
+    private static final int WRITE_BEHIND_BATCH = 500;
+    // introspection callers must drop a cached answer this long before the token expires
+    private static final long INTROSPECTION_EXPIRY_MARGIN_SECONDS = 5;
 
     @Value("${jwt.expiration}")
     private int expiration; // save to an environment variable
@@ -39,37 +68,125 @@ public class TokenServiceImpl implements TokenService {
     private int expirationRefreshToken;
 
     private final TokenRepository tokenRepository;
+    private final AccountRepository accountRepository;
     private final JwtTokenUtils jwtTokenUtil;
+    private final TokenRevocationIndex revocationIndex;
+    private final SessionStore sessionStore;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenVersionCache tokenVersionCache;
+
+    // Opaque mode: random access tokens resolved through the SessionStore instead of signed JWTs
+    @Value("${auth.opaque-tokens.enabled:false}")
+    private boolean opaqueTokensEnabled;
+
+    // upper bound on how long an introspection caller may trust a positive answer
+    @Value("${auth.introspection.max-cache-age:60s}")
+    private Duration introspectionMaxCacheAge;
+
+    private final SecureRandom secureRandom = new SecureRandom();
+    // logouts whose revoked flag has not been written to the tokens table yet
+    private final Queue<String> pendingRevocations = new ConcurrentLinkedQueue<>();
+
+    @Override
+    public String issueAccessToken(Account account) {
+        if (!opaqueTokensEnabled) {
+            return jwtTokenUtil.generateToken(account);
+        }
+        byte[] bytes = new byte[OPAQUE_TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    @Override
+    public OpaqueSession resolveSession(String token) {
+        // nothing this instance or a sibling issued, not worth hashing or a read
+        if (!OPAQUE_TOKEN.matcher(token).matches()) {
+            return null;
+        }
+        String digest = TokenDigest.sha256Hex(token);
+        if (revocationIndex.isRevoked(digest)) {
+            return null;
+        }
+        OpaqueSession session = sessionStore.get(digest);
+        if (session == null && !sessionStore.isKnownMiss(digest)) {
+            // issued by another instance: one indexed read, then served from memory
+            session = tokenRepository.findLiveSession(digest, LocalDateTime.now()).orElse(null);
+            if (session != null) {
+                sessionStore.put(session);
+            } else {
+                sessionStore.rememberMiss(digest);
+            }
+        }
+        return session;
+    }
 
     @Transactional
     @Override
-    public Token refreshToken(String refreshToken, Account user) throws Exception {
+    public Token refreshToken(String refreshToken) throws Exception {
         Token existingToken =
                 tokenRepository
-                        .findByRefreshToken(refreshToken)
+                        .findForRefresh(TokenDigest.sha256Hex(refreshToken))
                         .orElseThrow(
                                 () -> new TokenNotFoundException("Refresh token does not exist"));
+        Account user = existingToken.getAccount();
 
         if (existingToken.getRefreshExpirationDate().isBefore(LocalDateTime.now())) {
+            revoke(existingToken);
             tokenRepository.delete(existingToken);
             throw new ExpiredTokenException("Refresh token is expired");
         }
-        String token = jwtTokenUtil.generateToken(user);
+        // signed out everywhere (or role changed) since this session was issued
+        if (existingToken.getAccountVersion() != user.getTokenVersion()) {
+            revoke(existingToken);
+            tokenRepository.delete(existingToken);
+            throw new ExpiredTokenException("Refresh token has been revoked");
+        }
+        // the access token being rotated out must not stay usable until it expires, on any
+        // instance: it keeps a revoked row of its own, reaped once it has expired
+        revoke(existingToken);
+        Token rotatedOut =
+                Token.builder()
+                        .account(user)
+                        .revoked(true)
+                        .expired(false)
+                        .tokenType(existingToken.getTokenType())
+                        .tokenHash(existingToken.getTokenHash())
+                        .expirationDate(existingToken.getExpirationDate())
+                        .isMobile(existingToken.isMobile())
+                        .accountVersion(existingToken.getAccountVersion())
+                        .build();
+        String token = issueAccessToken(user);
         LocalDateTime expirationDateTime = LocalDateTime.now().plusSeconds(expiration);
         existingToken.setExpirationDate(expirationDateTime);
         existingToken.setToken(token);
         existingToken.setRefreshToken(UUID.randomUUID().toString());
         existingToken.setRefreshExpirationDate(
                 LocalDateTime.now().plusSeconds(expirationRefreshToken));
+        // Hibernate inserts before it updates, the old hash has to be released first
+        tokenRepository.saveAndFlush(existingToken);
+        tokenRepository.save(rotatedOut);
+        remember(existingToken, user);
         return existingToken;
     }
 
     // do revoke token
     @Override
-    public void deleteToken(String token, Account user) {
+    public void deleteToken(VerifiedToken token, Account user) {
+        OpaqueSession session = opaqueTokensEnabled ? sessionStore.get(token.digest()) : null;
+        if (session != null) {
+            if (!Objects.equals(session.accountId(), user.getId())) {
+                throw new TokenNotFoundException("Token does not attach with current user");
+            }
+            sessionStore.remove(token.digest());
+            revocationIndex.revoke(token.digest(), token.expiresAt());
+            // the row is flagged by flushRevocations, logout does not wait for the database
+            pendingRevocations.add(token.digest());
+            return;
+        }
+
         Token existingToken =
                 tokenRepository
-                        .findByToken(token)
+                        .findByTokenHash(token.digest())
                         .orElseThrow(() -> new TokenNotFoundException("Token does not exist"));
 
         if (existingToken.isRevoked()) {
@@ -82,39 +199,169 @@ public class TokenServiceImpl implements TokenService {
         }
         existingToken.setRevoked(true);
         tokenRepository.save(existingToken);
+        revocationIndex.revoke(token.digest(), token.expiresAt());
+        sessionStore.remove(token.digest());
+        verifiedTokenCache.invalidate(token.digest());
+    }
+
+    @Override
+    public Introspection introspect(String token) {
+        String digest = TokenDigest.sha256Hex(token);
+        if (revocationIndex.isRevoked(digest)) {
+            return Introspection.REVOKED;
+        }
+        // JWTs always contain dots, opaque tokens never do
+        if (token.indexOf('.') < 0) {
+            OpaqueSession session = opaqueTokensEnabled ? resolveSession(token) : null;
+            if (session == null) {
+                return Introspection.INACTIVE;
+            }
+            return active(
+                    session.accountId(),
+                    session.email(),
+                    session.role(),
+                    session.version(),
+                    session.expiresAt());
+        }
+        VerifiedToken verified;
+        try {
+            verified = verifiedTokenCache.verify(token);
+        } catch (JwtAuthenticationException e) {
+            return Introspection.INACTIVE;
+        }
+        return active(
+                verified.userId(),
+                verified.email(),
+                verified.role(),
+                verified.version(),
+                verified.expiresAt());
+    }
+
+    private Introspection active(
+            Long userId, String email, RoleName role, Integer version, Instant expiresAt) {
+        if (userId == null || version == null) {
+            return Introspection.INACTIVE;
+        }
+        // issued before the account's last "log out everywhere" or role change
+        if (version != tokenVersionCache.currentVersion(userId)) {
+            return Introspection.REVOKED;
+        }
+        long secondsLeft = Duration.between(Instant.now(), expiresAt).toSeconds();
+        long cacheMaxAge =
+                Math.max(
+                        0,
+                        Math.min(
+                                introspectionMaxCacheAge.toSeconds(),
+                                secondsLeft - INTROSPECTION_EXPIRY_MARGIN_SECONDS));
+        return new Introspection(
+                true, false, email, userId, role, expiresAt.getEpochSecond(), cacheMaxAge);
+    }
+
+    /**
+     * Writes the revoked flag of queued opaque-mode logouts, in batches, and once more on shutdown.
+     */
+    @Scheduled(fixedDelayString = "${auth.opaque-tokens.write-behind-interval:1000}")
+    @PreDestroy
+    public void flushRevocations() {
+        // only what is queued now, so a failing write cannot keep this loop busy
+        int queued = pendingRevocations.size();
+        List<String> batch = new ArrayList<>();
+        for (int i = 0; i < queued; i++) {
+            String digest = pendingRevocations.poll();
+            if (digest == null) {
+                break;
+            }
+            batch.add(digest);
+            if (batch.size() == WRITE_BEHIND_BATCH) {
+                writeRevocations(batch);
+                batch = new ArrayList<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            writeRevocations(batch);
+        }
+    }
+
+    private void writeRevocations(List<String> digests) {
+        try {
+            tokenRepository.markRevoked(digests);
+        } catch (RuntimeException e) {
+            log.warn("Could not persist {} revocations, retrying later", digests.size(), e);
+            pendingRevocations.addAll(digests);
+        }
+    }
+
+    /** Opaque mode: reloads the live sessions so a restart does not log everybody out. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void restoreSessions() {
+        if (!opaqueTokensEnabled) {
+            return;
+        }
+        tokenRepository.findLiveSessions(LocalDateTime.now()).forEach(sessionStore::put);
+        log.info("Restored {} opaque sessions", sessionStore.size());
+    }
+
+    /**
+     * Loads every revoked token that has not expired yet into the in-memory index. Runs at startup
+     * and then periodically, so a logout handled by another instance is picked up as well.
+     */
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${jwt.revocation.sync-interval:60000}",
+            fixedDelayString = "${jwt.revocation.sync-interval:60000}")
+    public void rebuildRevocationIndex() {
+        for (RevokedToken token : tokenRepository.findRevokedTokens(LocalDateTime.now())) {
+            revoke(token.digest(), token.expiresAt());
+        }
+        log.info("Revocation index holds {} tokens", revocationIndex.size());
+    }
+
+    private void revoke(Token token) {
+        if (token.getTokenHash() == null) {
+            return;
+        }
+        revoke(
+                token.getTokenHash(),
+                token.getExpirationDate() == null
+                        ? null
+                        : token.getExpirationDate().atZone(ZoneId.systemDefault()).toInstant());
+    }
+
+    private void revoke(String digest, Instant expiresAt) {
+        sessionStore.remove(digest);
+        verifiedTokenCache.invalidate(digest);
+        revocationIndex.revoke(digest, expiresAt);
     }
 
     @Override
     public Token findAccountByToken(String token) {
         return tokenRepository
-                .findByToken(token)
+                .findByTokenHash(TokenDigest.sha256Hex(token))
                 .orElseThrow(() -> new TokenNotFoundException("Token does not exist"));
     }
 
     @Transactional
     @Override
-    public Token addToken(Long userId, String token, boolean isMobileDevice) {
-        Account existingUser = accountService.getById(userId);
-        List<Token> userTokens = tokenRepository.findByAccountId(existingUser.getId());
-        int tokenCount = userTokens.size();
-        // Số lượng token vượt quá giới hạn, xóa một token cũ
+    public Token addToken(Account existingUser, String token, boolean isMobileDevice) {
+        // concurrent logins of one account queue up here, so the count below stays accurate
+        accountRepository.lockById(existingUser.getId());
+        long tokenCount = tokenRepository.countByAccountId(existingUser.getId());
+        // Số lượng token vượt quá giới hạn, xóa token cũ nhất (ưu tiên thiết bị không phải di động)
         if (tokenCount >= MAX_TOKENS) {
-            // kiểm tra xem trong danh sách userTokens có tồn tại ít nhất
-            // một token không phải là thiết bị di động (non-mobile)
-            boolean hasNonMobileToken = !userTokens.stream().allMatch(Token::isMobile);
-            Token tokenToDelete;
-            if (hasNonMobileToken) {
-                tokenToDelete =
-                        userTokens.stream()
-                                .filter(userToken -> !userToken.isMobile())
-                                .findFirst()
-                                .orElse(userTokens.get(0));
-            } else {
-                // tất cả các token đều là thiết bị di động,
-                // chúng ta sẽ xóa token đầu tiên trong danh sách
-                tokenToDelete = userTokens.get(0);
+            List<Token> evicted =
+                    tokenRepository.findEvictionCandidates(
+                            existingUser.getId(), Limit.of((int) (tokenCount - MAX_TOKENS + 1)));
+            // revoked rather than deleted, so the revocation index of every instance, and of this
+            // one after a restart, still rejects the access token. TokenReaper drops the row once
+            // it has expired, the refresh token is unusable from now on
+            for (Token session : evicted) {
+                session.setRevoked(true);
+                session.setRefreshToken(null);
+                session.setRefreshExpirationDate(null);
+                revoke(session);
             }
-            tokenRepository.delete(tokenToDelete);
+            tokenRepository.saveAll(evicted);
         }
         long expirationInSeconds = expiration;
         LocalDateTime expirationDateTime = LocalDateTime.now().plusSeconds(expirationInSeconds);
@@ -122,17 +369,32 @@ public class TokenServiceImpl implements TokenService {
         Token newToken =
                 Token.builder()
                         .account(existingUser)
-                        .token(token)
                         .revoked(false)
                         .expired(false)
                         .tokenType("Bearer")
                         .expirationDate(expirationDateTime)
                         .isMobile(isMobileDevice)
+                        .accountVersion(existingUser.getTokenVersion())
                         .build();
 
+        newToken.setToken(token);
         newToken.setRefreshToken(UUID.randomUUID().toString());
         newToken.setRefreshExpirationDate(LocalDateTime.now().plusSeconds(expirationRefreshToken));
         tokenRepository.save(newToken);
+        remember(newToken, existingUser);
         return newToken;
     }
+
+    private void remember(Token token, Account account) {
+        if (opaqueTokensEnabled) {
+            sessionStore.put(
+                    new OpaqueSession(
+                            token.getTokenHash(),
+                            account.getId(),
+                            account.getEmail(),
+                            account.getRoleName(),
+                            token.getAccountVersion(),
+                            token.getExpirationDate()));
+        }
+    }
 }
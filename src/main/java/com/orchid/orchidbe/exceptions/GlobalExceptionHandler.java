@@ -136,4 +136,32 @@ public class GlobalExceptionHandler {
         return MyApiResponse.error(
                 (HttpStatus) ex.getStatusCode(), ex.getReason(), ex.getMessage());
     }
+
+    @ExceptionHandler(TokenNotFoundException.class)
+    public ResponseEntity<MyApiResponse<Object>> handleTokenNotFoundException(
+            TokenNotFoundException ex) {
+        log.error("Token error: {}", ex.getMessage());
+        return MyApiResponse.error(HttpStatus.NOT_FOUND, "Token not found", ex.getMessage());
+    }
+
+    @ExceptionHandler(ExpiredTokenException.class)
+    public ResponseEntity<MyApiResponse<Object>> handleExpiredTokenException(
+            ExpiredTokenException ex) {
+        log.error("Token error: {}", ex.getMessage());
+        return MyApiResponse.error(HttpStatus.UNAUTHORIZED, "Token expired", ex.getMessage());
+    }
+
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<MyApiResponse<Object>> handleServiceOverloadedException(
+            ServiceOverloadedException ex) {
+        log.warn("Load shed: {}", ex.getMessage());
+        return MyApiResponse.serviceUnavailable(ex.getMessage(), ex.getRetryAfterSeconds());
+    }
+
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<MyApiResponse<Object>> handleRateLimitExceededException(
+            RateLimitExceededException ex) {
+        log.warn("Rate limited: {}", ex.getMessage());
+        return MyApiResponse.tooManyRequests(ex.getMessage(), ex.getRetryAfterSeconds());
+    }
 }
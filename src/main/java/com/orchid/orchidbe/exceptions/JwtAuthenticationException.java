@@ -9,8 +9,9 @@ package com.orchid.orchidbe.exceptions;
 
 public class JwtAuthenticationException extends RuntimeException {
 
+    // Thrown for whatever token a client sends, the stack trace would only cost time to fill in
     public JwtAuthenticationException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 
     public JwtAuthenticationException(String message, Throwable cause) {
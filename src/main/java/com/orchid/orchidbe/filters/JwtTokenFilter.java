@@ -8,7 +8,14 @@
 package com.orchid.orchidbe.filters;
 
 import com.orchid.orchidbe.components.JwtTokenUtils;
-import com.orchid.orchidbe.domain.account.Account;
+import com.orchid.orchidbe.components.OpaqueSession;
+import com.orchid.orchidbe.components.TokenVersionCache;
+import com.orchid.orchidbe.components.VerifiedToken;
+import com.orchid.orchidbe.components.VerifiedTokenCache;
+import com.orchid.orchidbe.domain.role.Role.RoleName;
+import com.orchid.orchidbe.domain.token.TokenService;
+import com.orchid.orchidbe.security.AccountPrincipal;
+import com.orchid.orchidbe.security.JwtPrincipal;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -16,10 +23,13 @@ import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -28,6 +38,24 @@ import org.springframework.web.filter.OncePerRequestFilter;
 public class JwtTokenFilter extends OncePerRequestFilter {
     private final UserDetailsService userDetailsService;
     private final JwtTokenUtils jwtTokenUtil;
+    private final TokenVersionCache tokenVersionCache;
+    private final TokenService tokenService;
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    // Opt-in: trust the signed claims for the principal instead of loading the account
+    @Value("${jwt.claims-principal.enabled:false}")
+    private boolean claimsPrincipalEnabled;
+
+    @Value("${auth.opaque-tokens.enabled:false}")
+    private boolean opaqueTokensEnabled;
+
+    // Routes that neither require a token nor read the principal, set by WebSecurityConfig
+    @Setter private RequestMatcher tokenFreeRoutes = request -> false;
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return tokenFreeRoutes.matches(request);
+    }
 
     @Override
     protected void doFilterInternal(
@@ -45,25 +73,13 @@ public class JwtTokenFilter extends OncePerRequestFilter {
                 return;
             }
 
-            // Extract and validate token
             final String token = authHeader.substring(7);
-            final String email = jwtTokenUtil.extractEmail(token);
-
-            // If we have an email and no authentication exists yet, validate the token
-            if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                Account userDetails = (Account) userDetailsService.loadUserByUsername(email);
-
-                if (jwtTokenUtil.validateToken(token, userDetails)) {
-                    // Create authentication token
-                    UsernamePasswordAuthenticationToken authToken =
-                            new UsernamePasswordAuthenticationToken(
-                                    userDetails, null, userDetails.getAuthorities());
-
-                    authToken.setDetails(
-                            new WebAuthenticationDetailsSource().buildDetails(request));
-
-                    // Set authentication in context
-                    SecurityContextHolder.getContext().setAuthentication(authToken);
+            if (SecurityContextHolder.getContext().getAuthentication() == null) {
+                // JWTs always contain dots, opaque tokens never do
+                if (opaqueTokensEnabled && token.indexOf('.') < 0) {
+                    authenticateOpaque(token, request);
+                } else {
+                    authenticateJwt(token, request);
                 }
             }
 
@@ -75,4 +91,76 @@ public class JwtTokenFilter extends OncePerRequestFilter {
             filterChain.doFilter(request, response);
         }
     }
+
+    private void authenticateJwt(String token, HttpServletRequest request) {
+        // header.payload.signature, anything else cannot verify and is not worth parsing
+        if (!isCompactJws(token)) {
+            return;
+        }
+        // Parse and verify the token once, the claims are reused for the rest of the request
+        // and, by digest, for later requests carrying the same token
+        final VerifiedToken verifiedToken = verifiedTokenCache.verify(token);
+        final String email = verifiedToken.email();
+        if (email == null || !isCurrentEpoch(verifiedToken.userId(), verifiedToken.version())) {
+            return;
+        }
+        AccountPrincipal userDetails =
+                claimsPrincipalEnabled ? principalFromClaims(verifiedToken) : null;
+        if (userDetails == null) {
+            userDetails = (AccountPrincipal) userDetailsService.loadUserByUsername(email);
+        }
+        if (jwtTokenUtil.validateToken(verifiedToken, userDetails)) {
+            authenticate(userDetails, verifiedToken, request);
+        }
+    }
+
+    /** Opaque mode: a map lookup replaces signature verification and the account load. */
+    private void authenticateOpaque(String token, HttpServletRequest request) {
+        OpaqueSession session = tokenService.resolveSession(token);
+        if (session != null && isCurrentEpoch(session.accountId(), session.version())) {
+            authenticate(session.toPrincipal(), session.toVerifiedToken(token), request);
+        }
+    }
+
+    private void authenticate(
+            AccountPrincipal userDetails, VerifiedToken verifiedToken, HttpServletRequest request) {
+        // Create authentication token, keeping the verified token as credentials
+        UsernamePasswordAuthenticationToken authToken =
+                new UsernamePasswordAuthenticationToken(
+                        userDetails, verifiedToken, userDetails.getAuthorities());
+        authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        // Set authentication in context
+        SecurityContextHolder.getContext().setAuthentication(authToken);
+    }
+
+    private static boolean isCompactJws(String token) {
+        int first = token.indexOf('.');
+        int last = token.lastIndexOf('.');
+        return first > 0
+                && last > first + 1
+                && last < token.length() - 1
+                && token.indexOf('.', first + 1) == last;
+    }
+
+    /**
+     * Whether the session was issued in the account's current revocation epoch. Logging out
+     * everywhere and role changes start a new one, which retires every older session at once.
+     */
+    private boolean isCurrentEpoch(Long userId, Integer version) {
+        return userId != null
+                && version != null
+                && version == tokenVersionCache.currentVersion(userId);
+    }
+
+    /**
+     * Builds the principal from the token alone, the epoch check guarantees the role claim is
+     * current. Returns null when the claims are incomplete, the caller then loads the account.
+     */
+    private AccountPrincipal principalFromClaims(VerifiedToken verifiedToken) {
+        RoleName role = verifiedToken.role();
+        if (role == null) {
+            return null;
+        }
+        return new JwtPrincipal(verifiedToken.userId(), verifiedToken.email(), role);
+    }
 }
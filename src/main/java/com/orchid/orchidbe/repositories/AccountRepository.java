@@ -8,8 +8,15 @@
 package com.orchid.orchidbe.repositories;
 
 import com.orchid.orchidbe.domain.account.Account;
+import jakarta.persistence.LockModeType;
 import java.util.Optional;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface AccountRepository extends JpaRepository<Account, Long> {
 
@@ -17,5 +24,27 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
 
     boolean existsByEmailAndIdNot(String email, Long id);
 
+    // role is needed by every caller (authorities, token claims), fetch it in the same query
+    @EntityGraph(attributePaths = "role")
     Optional<Account> findByEmail(String email);
+
+    /** Accounts whose hash is not BCrypt, or BCrypt below {@code cost} (two digits, e.g. 09). */
+    @Query(
+            "select count(a) from accounts a where a.password not like '$2_$__$%'"
+                    + " or substring(a.password, 5, 2) < :cost")
+    long countPasswordsBelowCost(@Param("cost") String cost);
+
+    /** Row lock on the account, serializes work on its sessions until the transaction ends. */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a.id from accounts a where a.id = :id")
+    Optional<Long> lockById(@Param("id") Long id);
+
+    /** Starts a new revocation epoch, one UPDATE however many sessions the account has. */
+    @Transactional
+    @Modifying
+    @Query("update accounts a set a.tokenVersion = a.tokenVersion + 1 where a.id = :id")
+    int incrementTokenVersion(@Param("id") Long id);
+
+    @Query("select a.tokenVersion from accounts a where a.id = :id")
+    Optional<Integer> findTokenVersionById(@Param("id") Long id);
 }
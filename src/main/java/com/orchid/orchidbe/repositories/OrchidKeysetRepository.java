@@ -0,0 +1,22 @@
+/**
+ * Copyright (c) 2025 lcaohoanq. All rights reserved.
+ *
+ * This software is the confidential and proprietary information of lcaohoanq.
+ * You shall not disclose such confidential information and shall use it only in
+ * accordance with the terms of the license agreement you entered into with lcaohoanq.
+ */
+package com.orchid.orchidbe.repositories;
+
+import com.orchid.orchidbe.domain.orchid.OrchidCursor;
+import com.orchid.orchidbe.domain.orchid.OrchidDTO.OrchidRes;
+import java.util.List;
+
+/** Keyset pagination over orchids, mixed into {@link OrchidRepository}. */
+public interface OrchidKeysetRepository {
+
+    /**
+     * Up to {@code limit} orchids following the cursor position, in cursor order. No count query is
+     * run, ask for one row more than the page size to learn whether another page follows.
+     */
+    List<OrchidRes> findAfter(OrchidCursor cursor, int limit);
+}
@@ -0,0 +1,91 @@
+/**
+ * Copyright (c) 2025 lcaohoanq. All rights reserved.
+ *
+ * This software is the confidential and proprietary information of lcaohoanq.
+ * You shall not disclose such confidential information and shall use it only in
+ * accordance with the terms of the license agreement you entered into with lcaohoanq.
+ */
+package com.orchid.orchidbe.repositories;
+
+import com.orchid.orchidbe.domain.orchid.OrchidCursor;
+import com.orchid.orchidbe.domain.orchid.OrchidCursor.Key;
+import com.orchid.orchidbe.domain.orchid.OrchidDTO.OrchidRes;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Seeks with a row-value comparison, {@code (o.price, o.id) > (:key, :id)}, so every page is a
+ * range scan on the (column, id) index however deep the client is. Hibernate expands the tuple on
+ * databases without row-value support. Rows with a null key cannot take part in the comparison,
+ * they are served afterwards as a separate walk by id.
+ */
+class OrchidKeysetRepositoryImpl implements OrchidKeysetRepository {
+
+    @PersistenceContext private EntityManager entityManager;
+
+    @Override
+    public List<OrchidRes> findAfter(OrchidCursor cursor, int limit) {
+        List<OrchidRes> rows = new ArrayList<>(limit);
+        if (!cursor.inNullTail()) {
+            rows.addAll(findKeyed(cursor, limit));
+        }
+        if (rows.size() < limit && cursor.key().nullable()) {
+            Long afterId = cursor.inNullTail() ? cursor.afterId() : null;
+            rows.addAll(findNullKeyed(cursor, afterId, limit - rows.size()));
+        }
+        return rows;
+    }
+
+    private List<OrchidRes> findKeyed(OrchidCursor cursor, int limit) {
+        String property = "o." + cursor.key().property();
+        String compare = cursor.descending() ? " < " : " > ";
+        String direction = cursor.descending() ? " desc" : " asc";
+
+        String where;
+        if (cursor.key() == Key.ID) {
+            where = cursor.isStart() ? "" : " where o.id" + compare + ":id";
+        } else {
+            where =
+                    cursor.isStart()
+                            ? " where " + property + " is not null"
+                            : " where (" + property + ", o.id)" + compare + "(:key, :id)";
+        }
+        String order =
+                cursor.key() == Key.ID
+                        ? " order by o.id" + direction
+                        : " order by " + property + direction + ", o.id" + direction;
+
+        TypedQuery<OrchidRes> query =
+                entityManager.createQuery(
+                        OrchidRepository.SELECT_RES + where + order, OrchidRes.class);
+        if (!cursor.isStart()) {
+            query.setParameter("id", cursor.afterId());
+            if (cursor.key() != Key.ID) {
+                query.setParameter("key", cursor.afterKey());
+            }
+        }
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    private List<OrchidRes> findNullKeyed(OrchidCursor cursor, Long afterId, int limit) {
+        String property = "o." + cursor.key().property();
+        String compare = cursor.descending() ? " < " : " > ";
+        String direction = cursor.descending() ? " desc" : " asc";
+
+        String where = " where " + property + " is null";
+        if (afterId != null) {
+            where += " and o.id" + compare + ":id";
+        }
+        TypedQuery<OrchidRes> query =
+                entityManager.createQuery(
+                        OrchidRepository.SELECT_RES + where + " order by o.id" + direction,
+                        OrchidRes.class);
+        if (afterId != null) {
+            query.setParameter("id", afterId);
+        }
+        return query.setMaxResults(limit).getResultList();
+    }
+}
@@ -8,8 +8,35 @@
 package com.orchid.orchidbe.repositories;
 
 import com.orchid.orchidbe.domain.orchid.Orchid;
+import com.orchid.orchidbe.domain.orchid.OrchidDTO.OrchidRes;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface OrchidRepository extends JpaRepository<Orchid, Long>, OrchidKeysetRepository {
+
+    /** The {@link OrchidRes} columns, category_id is read from the row so categories never load. */
+    String SELECT_RES =
+            "select new com.orchid.orchidbe.domain.orchid.OrchidDTO$OrchidRes(o.id, o.isNatural,"
+                    + " o.description, o.name, o.url, o.price, o.category.id, o.createdAt,"
+                    + " o.updatedAt) from orchids o";
 
-public interface OrchidRepository extends JpaRepository<Orchid, Long> {
     boolean existsByName(String name);
+
+    @Query(SELECT_RES)
+    List<OrchidRes> findAllRes();
+
+    @Query(value = SELECT_RES, countQuery = "select count(o) from orchids o")
+    Page<OrchidRes> findAllRes(Pageable pageable);
+
+    @Query(SELECT_RES + " where o.id = :id")
+    Optional<OrchidRes> findResById(@Param("id") Long id);
+
+    @Query(SELECT_RES + " where o.id in :ids")
+    List<OrchidRes> findResByIdIn(@Param("ids") Collection<Long> ids);
 }
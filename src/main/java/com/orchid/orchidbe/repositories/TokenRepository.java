@@ -7,16 +7,75 @@
  */
 package com.orchid.orchidbe.repositories;
 
+import com.orchid.orchidbe.components.OpaqueSession;
+import com.orchid.orchidbe.components.RevokedToken;
 import com.orchid.orchidbe.domain.token.Token;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface TokenRepository extends JpaRepository<Token, Long> {
 
-    List<Token> findByAccountId(Long accountId);
+    String LIVE_SESSIONS =
+            "select new com.orchid.orchidbe.components.OpaqueSession("
+                    + "t.tokenHash, a.id, a.email, r.name, t.accountVersion, t.expirationDate)"
+                    + " from tokens t join t.account a join a.role r"
+                    + " where t.revoked = false and t.expirationDate > :now";
 
-    Optional<Token> findByToken(String token);
+    // a derived query would join accounts, these read tokens.account_id straight off its index.
+    // Revoked rows are only kept for the revocation index until they expire, they hold no slot
+    @Query("select count(t) from tokens t where t.account.id = :accountId and t.revoked = false")
+    long countByAccountId(@Param("accountId") Long accountId);
 
-    Optional<Token> findByRefreshToken(String token);
+    /** Oldest sessions of the account, non-mobile ones first: the order slots are given up in. */
+    @Query(
+            "select t from tokens t where t.account.id = :accountId and t.revoked = false"
+                    + " order by t.isMobile asc, t.id asc")
+    List<Token> findEvictionCandidates(@Param("accountId") Long accountId, Limit limit);
+
+    Optional<Token> findByTokenHash(String tokenHash);
+
+    Optional<Token> findByRefreshTokenHash(String refreshTokenHash);
+
+    /**
+     * The row a refresh rotates, locked until the rotation commits so a refresh token can only be
+     * redeemed once. Nothing is joined: a lock over a join would also take the account row and the
+     * role row every account of that role shares, their eager load follows unlocked.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from tokens t where t.refreshTokenHash = :refreshTokenHash")
+    Optional<Token> findForRefresh(@Param("refreshTokenHash") String refreshTokenHash);
+
+    @Query(
+            "select new com.orchid.orchidbe.components.RevokedToken(t.tokenHash, t.expirationDate)"
+                    + " from tokens t where t.revoked = true and t.tokenHash is not null"
+                    + " and t.expirationDate > :now")
+    List<RevokedToken> findRevokedTokens(@Param("now") LocalDateTime now);
+
+    // rows nothing can use anymore, revoked ones only once the access token is dead too
+    @Query(
+            "select t.id from tokens t where t.refreshExpirationDate < :now"
+                    + " or (t.revoked = true and t.expirationDate < :now)")
+    List<Long> findReapableIds(@Param("now") LocalDateTime now, Limit limit);
+
+    @Query(LIVE_SESSIONS + " and t.tokenHash = :tokenHash")
+    Optional<OpaqueSession> findLiveSession(
+            @Param("tokenHash") String tokenHash, @Param("now") LocalDateTime now);
+
+    @Query(LIVE_SESSIONS)
+    List<OpaqueSession> findLiveSessions(@Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("update tokens t set t.revoked = true where t.tokenHash in :tokenHashes")
+    int markRevoked(@Param("tokenHashes") Collection<String> tokenHashes);
 }
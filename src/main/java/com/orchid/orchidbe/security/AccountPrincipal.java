@@ -0,0 +1,24 @@
+/**
+ * Copyright (c) 2025 lcaohoanq. All rights reserved.
+ *
+ * This software is the confidential and proprietary information of lcaohoanq.
+ * You shall not disclose such confidential information and shall use it only in
+ * accordance with the terms of the license agreement you entered into with lcaohoanq.
+ */
+package com.orchid.orchidbe.security;
+
+import com.orchid.orchidbe.domain.role.Role.RoleName;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * What controllers may rely on when reading the authenticated principal. Implemented by the {@code
+ * Account} entity and by {@link JwtPrincipal}, which is built from token claims alone.
+ */
+public interface AccountPrincipal extends UserDetails {
+
+    Long getId();
+
+    String getEmail();
+
+    RoleName getRoleName();
+}
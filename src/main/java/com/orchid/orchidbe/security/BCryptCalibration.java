@@ -0,0 +1,95 @@
+/**
+ * Copyright (c) 2025 lcaohoanq. All rights reserved.
+ *
+ * This software is the confidential and proprietary information of lcaohoanq.
+ * You shall not disclose such confidential information and shall use it only in
+ * accordance with the terms of the license agreement you entered into with lcaohoanq.
+ */
+package com.orchid.orchidbe.security;
+
+import java.util.concurrent.TimeUnit;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * The BCrypt cost factor in use. Either fixed by configuration or measured at startup: the highest
+ * cost whose hash still fits the target time on this CPU, so login latency stays put when the
+ * instance type changes. Hashes stored at a lower cost are {@link #isOutdated outdated}.
+ */
+@Slf4j
+@Getter
+public final class BCryptCalibration {
+
+    private static final String PROBE = "calibration-probe";
+    private static final int SAMPLES = 2;
+
+    private final int strength;
+
+    private BCryptCalibration(int strength) {
+        this.strength = strength;
+    }
+
+    public static BCryptCalibration fixed(int strength) {
+        return new BCryptCalibration(strength);
+    }
+
+    /**
+     * Walks the cost up from {@code minStrength}, each step doubling the work, and stops before the
+     * next step would overshoot {@code targetMillis}. Never leaves [{@code minStrength}, {@code
+     * maxStrength}], even if the floor is already slower than the target.
+     */
+    public static BCryptCalibration calibrate(long targetMillis, int minStrength, int maxStrength) {
+        long targetNanos = TimeUnit.MILLISECONDS.toNanos(targetMillis);
+        new BCryptPasswordEncoder(minStrength).encode(PROBE); // warm up
+        int strength = minStrength;
+        long nanos = measure(strength);
+        while (strength < maxStrength && nanos * 2 <= targetNanos) {
+            strength++;
+            nanos = measure(strength);
+        }
+        log.info(
+                "🔐 BCrypt cost {} takes {} ms (target {} ms)",
+                strength,
+                TimeUnit.NANOSECONDS.toMillis(nanos),
+                targetMillis);
+        return new BCryptCalibration(strength);
+    }
+
+    /**
+     * True when the hash is not BCrypt, or BCrypt below the current cost, and should be re-encoded.
+     * A higher cost is left alone: lowering it would weaken the hash, and instances calibrated on
+     * different hardware would otherwise rehash the same account back and forth.
+     */
+    public boolean isOutdated(String encodedPassword) {
+        return costOf(encodedPassword) < strength;
+    }
+
+    /** Cost factor of a {@code $2a$NN$...} hash, or -1 if it is not a BCrypt hash. */
+    public static int costOf(String encodedPassword) {
+        if (encodedPassword == null
+                || encodedPassword.length() < 7
+                || encodedPassword.charAt(0) != '$'
+                || encodedPassword.charAt(3) != '$'
+                || encodedPassword.charAt(6) != '$') {
+            return -1;
+        }
+        char tens = encodedPassword.charAt(4);
+        char ones = encodedPassword.charAt(5);
+        if (!Character.isDigit(tens) || !Character.isDigit(ones)) {
+            return -1;
+        }
+        return (tens - '0') * 10 + (ones - '0');
+    }
+
+    private static long measure(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode(PROBE);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+}
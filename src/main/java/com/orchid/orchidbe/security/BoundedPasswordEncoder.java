@@ -0,0 +1,116 @@
+/**
+ * Copyright (c) 2025 lcaohoanq. All rights reserved.
+ *
+ * This software is the confidential and proprietary information of lcaohoanq.
+ * You shall not disclose such confidential information and shall use it only in
+ * accordance with the terms of the license agreement you entered into with lcaohoanq.
+ */
+package com.orchid.orchidbe.security;
+
+import com.orchid.orchidbe.exceptions.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Runs the (deliberately slow) delegate encoder on a dedicated, bounded executor. The calling
+ * request thread still waits for the result, but at most {@code poolSize} hashes burn CPU at once
+ * and at most {@code queueCapacity} callers wait for one. Past that the call fails fast with {@link
+ * ServiceOverloadedException} instead of tying up every request thread behind a login burst.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long retryAfterSeconds;
+    private final Timer encodeWait;
+    private final Timer encodeTime;
+    private final Timer matchesWait;
+    private final Timer matchesTime;
+    private final Counter rejected;
+
+    public BoundedPasswordEncoder(
+            PasswordEncoder delegate,
+            ThreadPoolExecutor executor,
+            MeterRegistry meterRegistry,
+            long retryAfterSeconds) {
+        this.delegate = delegate;
+        this.executor = executor;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.encodeWait = waitTimer(meterRegistry, "encode");
+        this.encodeTime = hashTimer(meterRegistry, "encode");
+        this.matchesWait = waitTimer(meterRegistry, "matches");
+        this.matchesTime = hashTimer(meterRegistry, "matches");
+        this.rejected =
+                Counter.builder("auth.password.hashing.rejected")
+                        .description("Password hashing requests shed because the queue was full")
+                        .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> delegate.encode(rawPassword), encodeWait, encodeTime);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(
+                () -> delegate.matches(rawPassword, encodedPassword), matchesWait, matchesTime);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T submit(Callable<T> work, Timer waitTimer, Timer hashTimer) {
+        long queuedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future =
+                    executor.submit(
+                            () -> {
+                                waitTimer.record(
+                                        System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+                                return hashTimer.recordCallable(work);
+                            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new ServiceOverloadedException(
+                    "Too many concurrent password checks, try again shortly", retryAfterSeconds);
+        }
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private static Timer waitTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("auth.password.hashing.wait")
+                .description("Time a password hashing request spent queued")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    private static Timer hashTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("auth.password.hashing.time")
+                .description("Time spent computing a password hash")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,43 @@
+/**
+ * Copyright (c) 2025 lcaohoanq. All rights reserved.
+ *
+ * This software is the confidential and proprietary information of lcaohoanq.
+ * You shall not disclose such confidential information and shall use it only in
+ * accordance with the terms of the license agreement you entered into with lcaohoanq.
+ */
+package com.orchid.orchidbe.security;
+
+import com.orchid.orchidbe.domain.role.Role.RoleName;
+import java.util.Collection;
+import lombok.Value;
+import org.springframework.security.core.GrantedAuthority;
+
+/**
+ * Immutable principal built from signed JWT claims, so an authenticated request does not need to
+ * load the account. It carries no password hash.
+ */
+@Value
+public class JwtPrincipal implements AccountPrincipal {
+
+    Long id;
+    String email;
+    RoleName roleName;
+    Collection<? extends GrantedAuthority> authorities;
+
+    public JwtPrincipal(Long id, String email, RoleName roleName) {
+        this.id = id;
+        this.email = email;
+        this.roleName = roleName;
+        this.authorities = roleName.authorities();
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+}
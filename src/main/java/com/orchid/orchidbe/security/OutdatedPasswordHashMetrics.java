@@ -0,0 +1,53 @@
+/**
+ * Copyright (c) 2025 lcaohoanq. All rights reserved.
+ *
+ * This software is the confidential and proprietary information of lcaohoanq.
+ * You shall not disclose such confidential information and shall use it only in
+ * accordance with the terms of the license agreement you entered into with lcaohoanq.
+ */
+package com.orchid.orchidbe.security;
+
+import com.orchid.orchidbe.repositories.AccountRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Exports how many accounts still store a password hash below the calibrated cost. Those are
+ * upgraded on their next login, so the gauge should trend to zero. Counted periodically rather than
+ * per scrape to keep the query off the scrape path.
+ */
+@Slf4j
+@Component
+public class OutdatedPasswordHashMetrics {
+
+    private final AccountRepository accountRepository;
+    private final String currentCost;
+    private final AtomicLong outdatedAccounts = new AtomicLong();
+
+    public OutdatedPasswordHashMetrics(
+            AccountRepository accountRepository,
+            BCryptCalibration bcryptCalibration,
+            MeterRegistry meterRegistry) {
+        this.accountRepository = accountRepository;
+        // the cost is stored as two digits, so comparing them as strings orders them numerically
+        this.currentCost = "%02d".formatted(bcryptCalibration.getStrength());
+        Gauge.builder("auth.password.hashing.outdated.accounts", outdatedAccounts, AtomicLong::get)
+                .description("Accounts whose password hash uses a lower BCrypt cost")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${security.password-hashing.outdated-count-interval:300000}",
+            fixedDelayString = "${security.password-hashing.outdated-count-interval:300000}")
+    public void refresh() {
+        outdatedAccounts.set(accountRepository.countPasswordsBelowCost(currentCost));
+        log.debug("{} accounts have an outdated password hash", outdatedAccounts.get());
+    }
+}
@@ -0,0 +1,217 @@
+/**
+ * Copyright (c) 2025 lcaohoanq. All rights reserved.
+ *
+ * This software is the confidential and proprietary information of lcaohoanq.
+ * You shall not disclose such confidential information and shall use it only in
+ * accordance with the terms of the license agreement you entered into with lcaohoanq.
+ */
+package com.orchid.orchidbe.security;
+
+import com.orchid.orchidbe.domain.role.Role.RoleName;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.authentication.AuthenticationTrustResolver;
+import org.springframework.security.authentication.AuthenticationTrustResolverImpl;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.AuthorizationResult;
+import org.springframework.security.authorization.method.PreAuthorizeAuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+/**
+ * Decides {@code @PreAuthorize} without SpEL for the expressions this codebase uses: {@code
+ * permitAll()}, {@code denyAll()}, {@code isAuthenticated()} and the {@code hasRole}/{@code
+ * hasAnyRole}/{@code hasAuthority}/{@code hasAnyAuthority} role checks. Each is compiled once into
+ * a bitmask over {@link RoleName} ordinals, for every controller method when the context is
+ * refreshed and for anything else on its first call. A request then costs a map lookup and an AND.
+ *
+ * <p>Any other expression, or a role name that is not a {@link RoleName}, is left to Spring's
+ * {@link PreAuthorizeAuthorizationManager}, so semantics never change. A denial is thrown as usual
+ * and ends up in {@link AccessDeniedHandlerImpl}.
+ */
+@Slf4j
+public class RoleAuthorizationManager
+        implements AuthorizationManager<MethodInvocation>,
+                ApplicationListener<ContextRefreshedEvent> {
+
+    private static final String ROLE_PREFIX = "ROLE_";
+    private static final Pattern ROLE_CHECK =
+            Pattern.compile(
+                    "^\\s*(hasRole|hasAnyRole|hasAuthority|hasAnyAuthority)\\((.*)\\)\\s*$");
+    private static final Pattern QUOTED = Pattern.compile("^\\s*'([^']+)'\\s*$");
+
+    private static final Map<String, RoleName> ROLES_BY_AUTHORITY =
+            Arrays.stream(RoleName.values())
+                    .collect(
+                            Collectors.toUnmodifiableMap(role -> ROLE_PREFIX + role, role -> role));
+
+    private static final AuthorizationDecision GRANTED = new AuthorizationDecision(true);
+    private static final AuthorizationDecision DENIED = new AuthorizationDecision(false);
+
+    private final PreAuthorizeAuthorizationManager expressions =
+            new PreAuthorizeAuthorizationManager();
+    private final AuthenticationTrustResolver trustResolver = new AuthenticationTrustResolverImpl();
+    private final Map<Method, Rule> rules = new ConcurrentHashMap<>();
+
+    @Override
+    public AuthorizationResult authorize(
+            Supplier<Authentication> authentication, MethodInvocation invocation) {
+        Rule rule =
+                rules.computeIfAbsent(
+                        invocation.getMethod(),
+                        method -> compile(method, targetClass(invocation, method)));
+        return switch (rule.kind()) {
+            case ABSTAIN -> null;
+            case PERMIT_ALL -> GRANTED;
+            case DENY_ALL -> DENIED;
+            case AUTHENTICATED ->
+                    trustResolver.isAuthenticated(authentication.get()) ? GRANTED : DENIED;
+            case ROLES -> (roleMask(authentication.get()) & rule.roles()) != 0 ? GRANTED : DENIED;
+            case EXPRESSION -> expressions.authorize(authentication, invocation);
+        };
+    }
+
+    /** Still abstract on the interface, callers go through {@link #authorize} instead. */
+    @Deprecated
+    @Override
+    public AuthorizationDecision check(
+            Supplier<Authentication> authentication, MethodInvocation invocation) {
+        AuthorizationResult result = authorize(authentication, invocation);
+        if (result == null || result instanceof AuthorizationDecision) {
+            return (AuthorizationDecision) result;
+        }
+        return new AuthorizationDecision(result.isGranted());
+    }
+
+    @Override
+    public void onApplicationEvent(ContextRefreshedEvent event) {
+        var context = event.getApplicationContext();
+        expressions.setApplicationContext(context);
+        for (var mapping : context.getBeansOfType(RequestMappingHandlerMapping.class).values()) {
+            for (HandlerMethod handler : mapping.getHandlerMethods().values()) {
+                rules.computeIfAbsent(
+                        handler.getMethod(), method -> compile(method, handler.getBeanType()));
+            }
+        }
+        long annotated = rules.values().stream().filter(r -> r.kind() != Kind.ABSTAIN).count();
+        long fallbacks = rules.values().stream().filter(r -> r.kind() == Kind.EXPRESSION).count();
+        log.info("Compiled {} @PreAuthorize rules, {} left to SpEL", annotated, fallbacks);
+    }
+
+    static Rule compile(Method method, Class<?> targetClass) {
+        Method specific = AopUtils.getMostSpecificMethod(method, targetClass);
+        PreAuthorize annotation =
+                AnnotatedElementUtils.findMergedAnnotation(specific, PreAuthorize.class);
+        if (annotation == null) {
+            annotation =
+                    AnnotatedElementUtils.findMergedAnnotation(targetClass, PreAuthorize.class);
+        }
+        return annotation == null ? Rule.ABSTAIN : compile(annotation.value());
+    }
+
+    static Rule compile(String expression) {
+        switch (expression.replace(" ", "")) {
+            case "permitAll()":
+                return Rule.PERMIT_ALL;
+            case "denyAll()":
+                return Rule.DENY_ALL;
+            case "isAuthenticated()":
+                return Rule.AUTHENTICATED;
+            default:
+                break;
+        }
+        Matcher check = ROLE_CHECK.matcher(expression);
+        if (!check.matches()) {
+            return Rule.EXPRESSION;
+        }
+        boolean prefixed = check.group(1).endsWith("Role");
+        boolean many = check.group(1).startsWith("hasAny");
+        String[] arguments = check.group(2).split(",");
+        if (!many && arguments.length != 1) {
+            return Rule.EXPRESSION;
+        }
+        int mask = 0;
+        for (String argument : arguments) {
+            Matcher quoted = QUOTED.matcher(argument);
+            if (!quoted.matches()) {
+                return Rule.EXPRESSION;
+            }
+            String authority = quoted.group(1);
+            // hasRole adds the prefix unless it is already there, hasAuthority never does
+            if (prefixed && !authority.startsWith(ROLE_PREFIX)) {
+                authority = ROLE_PREFIX + authority;
+            }
+            RoleName role = roleOf(authority);
+            if (role == null) {
+                return Rule.EXPRESSION;
+            }
+            mask |= bit(role);
+        }
+        return new Rule(Kind.ROLES, mask);
+    }
+
+    private static int roleMask(Authentication authentication) {
+        if (authentication == null) {
+            return 0;
+        }
+        // our principals know their role, the authorities are derived from it
+        if (authentication.getPrincipal() instanceof AccountPrincipal principal
+                && principal.getRoleName() != null) {
+            return bit(principal.getRoleName());
+        }
+        int mask = 0;
+        for (GrantedAuthority granted : authentication.getAuthorities()) {
+            RoleName role = roleOf(granted.getAuthority());
+            if (role != null) {
+                mask |= bit(role);
+            }
+        }
+        return mask;
+    }
+
+    private static RoleName roleOf(String authority) {
+        return authority == null ? null : ROLES_BY_AUTHORITY.get(authority);
+    }
+
+    private static int bit(RoleName role) {
+        return 1 << role.ordinal();
+    }
+
+    private static Class<?> targetClass(MethodInvocation invocation, Method method) {
+        Object target = invocation.getThis();
+        return target == null ? method.getDeclaringClass() : AopUtils.getTargetClass(target);
+    }
+
+    enum Kind {
+        ABSTAIN,
+        PERMIT_ALL,
+        DENY_ALL,
+        AUTHENTICATED,
+        ROLES,
+        EXPRESSION
+    }
+
+    record Rule(Kind kind, int roles) {
+        static final Rule ABSTAIN = new Rule(Kind.ABSTAIN, 0);
+        static final Rule PERMIT_ALL = new Rule(Kind.PERMIT_ALL, 0);
+        static final Rule DENY_ALL = new Rule(Kind.DENY_ALL, 0);
+        static final Rule AUTHENTICATED = new Rule(Kind.AUTHENTICATED, 0);
+        static final Rule EXPRESSION = new Rule(Kind.EXPRESSION, 0);
+    }
+}
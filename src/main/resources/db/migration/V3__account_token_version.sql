@@ -0,0 +1,11 @@
+--
+-- Per-account version embedded in access tokens as the "ver" claim.
+-- Bumped on role change so tokens carrying the old role are re-checked.
+--
+
+ALTER TABLE public.accounts
+    ADD COLUMN token_version integer NOT NULL DEFAULT 0;
+
+-- The role/ver/userId/jti claims push access tokens past 255 characters.
+ALTER TABLE public.tokens
+    ALTER COLUMN token TYPE character varying(512);
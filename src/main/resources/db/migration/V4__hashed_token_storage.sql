@@ -0,0 +1,59 @@
+--
+-- Store tokens as fixed-length SHA-256 digests (hex) instead of the raw values, and
+-- index every column the auth path looks rows up by.
+--
+
+ALTER TABLE public.tokens
+    ADD COLUMN token_hash character varying(64),
+    ADD COLUMN refresh_token_hash character varying(64);
+
+UPDATE public.tokens
+SET token_hash         = encode(sha256(convert_to(token, 'UTF8')), 'hex'),
+    refresh_token_hash = encode(sha256(convert_to(refresh_token, 'UTF8')), 'hex');
+
+ALTER TABLE public.tokens
+    DROP COLUMN token,
+    DROP COLUMN refresh_token;
+
+-- Tokens issued before JWTs carried a jti were byte-identical for two logins of one account
+-- within the same second, so digests can repeat. Keep the newest row per digest, revoked if
+-- any copy of it was, and drop the others.
+UPDATE public.tokens t
+SET revoked = true
+WHERE NOT t.revoked
+  AND EXISTS (SELECT 1
+              FROM public.tokens d
+              WHERE d.token_hash = t.token_hash
+                AND d.id <> t.id
+                AND d.revoked);
+
+DELETE
+FROM public.tokens t
+    USING public.tokens newer
+WHERE newer.token_hash = t.token_hash
+  AND newer.id > t.id;
+
+DELETE
+FROM public.tokens t
+    USING public.tokens newer
+WHERE newer.refresh_token_hash = t.refresh_token_hash
+  AND newer.id > t.id;
+
+-- Accounts sharing an email could not sign in at all, the lookup by email found several rows.
+-- The oldest one keeps the address, the others are renamed to <email>#duplicate-<id>, which
+-- keeps their orders and stays recognisable for a manual merge. Their sessions are revoked.
+UPDATE public.tokens t
+SET revoked = true
+FROM public.accounts a
+WHERE t.account_id = a.id
+  AND EXISTS (SELECT 1 FROM public.accounts older WHERE older.email = a.email AND older.id < a.id);
+
+UPDATE public.accounts a
+SET email = a.email || '#duplicate-' || a.id
+WHERE EXISTS (SELECT 1 FROM public.accounts older WHERE older.email = a.email AND older.id < a.id);
+
+CREATE UNIQUE INDEX ux_tokens_token_hash ON public.tokens (token_hash);
+CREATE UNIQUE INDEX ux_tokens_refresh_token_hash ON public.tokens (refresh_token_hash);
+CREATE INDEX ix_tokens_account_id ON public.tokens (account_id);
+
+CREATE UNIQUE INDEX ux_accounts_email ON public.accounts (email);
@@ -0,0 +1,8 @@
+--
+-- Let the token reaper find dead rows without scanning the whole table.
+--
+
+CREATE INDEX ix_tokens_refresh_expiration_date ON public.tokens (refresh_expiration_date);
+
+-- revoked rows are few, a partial index keeps this one small
+CREATE INDEX ix_tokens_revoked_expiration_date ON public.tokens (expiration_date) WHERE revoked;
@@ -0,0 +1,15 @@
+--
+-- Account-wide revocation epoch. accounts.token_version is bumped by
+-- "log out everywhere" and by role changes; every session issued under an
+-- older version stops working. JWTs carry the version as the "ver" claim,
+-- opaque and refresh tokens carry it on their row.
+--
+
+ALTER TABLE public.tokens
+    ADD COLUMN account_version integer NOT NULL DEFAULT 0;
+
+-- rows issued before this migration belong to the current epoch
+UPDATE public.tokens t
+SET account_version = a.token_version
+FROM public.accounts a
+WHERE a.id = t.account_id;
@@ -0,0 +1,8 @@
+--
+-- Keyset pagination of /orchids/paged seeks on (sort column, id), one
+-- index per sortable column keeps every page a short range scan.
+--
+
+CREATE INDEX ix_orchids_price_id ON public.orchids (price, id);
+
+CREATE INDEX ix_orchids_name_id ON public.orchids (name, id);
@@ -0,0 +1,83 @@
+/**
+ * Copyright (c) 2025 lcaohoanq. All rights reserved.
+ *
+ * This software is the confidential and proprietary information of lcaohoanq.
+ * You shall not disclose such confidential information and shall use it only in
+ * accordance with the terms of the license agreement you entered into with lcaohoanq.
+ */
+package com.orchid.orchidbe.components;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.orchid.orchidbe.exceptions.RateLimitExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+class RateLimiterTest {
+
+    private SimpleMeterRegistry registry;
+    private RateLimiter limiter;
+
+    @BeforeEach
+    void init() {
+        registry = new SimpleMeterRegistry();
+        var environment =
+                new MockEnvironment()
+                        .withProperty("auth.rate-limit.login.ip", "3/1h")
+                        .withProperty("auth.rate-limit.login.email", "2/1h");
+        limiter = new RateLimiter(environment, registry, true, 4, 100, Duration.ZERO);
+    }
+
+    @Test
+    void check_ShouldRejectOnceTheEmailBucketIsEmpty() {
+        limiter.check("login", "10.0.0.1", "a@x.com");
+        limiter.check("login", "10.0.0.2", "A@X.com");
+
+        var ex =
+                assertThrows(
+                        RateLimitExceededException.class,
+                        () -> limiter.check("login", "10.0.0.3", "a@x.com"));
+        assertTrue(ex.getRetryAfterSeconds() > 0);
+        assertDoesNotThrow(() -> limiter.check("login", "10.0.0.3", "b@x.com"));
+    }
+
+    @Test
+    void check_ShouldRejectOnceTheIpBucketIsEmpty() {
+        for (int i = 0; i < 3; i++) {
+            limiter.check("login", "10.0.0.1", "user" + i + "@x.com");
+        }
+
+        assertThrows(
+                RateLimitExceededException.class,
+                () -> limiter.check("login", "10.0.0.1", "other@x.com"));
+        assertEquals(
+                1.0,
+                registry.get("auth.rate.limit.requests")
+                        .tags("route", "login", "key", "ip", "result", "rejected")
+                        .counter()
+                        .count());
+    }
+
+    @Test
+    void check_ShouldNotLimitRoutesWithoutConfiguredLimits() {
+        for (int i = 0; i < 100; i++) {
+            limiter.check("register", "10.0.0.1", "a@x.com");
+        }
+    }
+
+    @Test
+    void evictIdle_ShouldResetIdleBuckets() {
+        limiter.check("login", "10.0.0.1", "a@x.com");
+        limiter.check("login", "10.0.0.1", "a@x.com");
+
+        limiter.evictIdle();
+
+        assertDoesNotThrow(() -> limiter.check("login", "10.0.0.1", "a@x.com"));
+    }
+}
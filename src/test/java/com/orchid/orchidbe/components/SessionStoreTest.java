@@ -0,0 +1,81 @@
+/**
+ * Copyright (c) 2025 lcaohoanq. All rights reserved.
+ *
+ * This software is the confidential and proprietary information of lcaohoanq.
+ * You shall not disclose such confidential information and shall use it only in
+ * accordance with the terms of the license agreement you entered into with lcaohoanq.
+ */
+package com.orchid.orchidbe.components;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.orchid.orchidbe.domain.role.Role.RoleName;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SessionStoreTest {
+
+    private SessionStore store;
+
+    @BeforeEach
+    void init() {
+        store = new SessionStore(4, 100, Duration.ofMinutes(1), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void get_ShouldReturnLiveSessionsOnly() {
+        store.put(session("live", 1L, Instant.now().plusSeconds(60)));
+        store.put(session("expired", 1L, Instant.now().minusSeconds(1)));
+
+        assertNotNull(store.get("live"));
+        assertNull(store.get("expired"));
+        assertNull(store.get("unknown"));
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    void removeAccount_ShouldDropEverySessionOfTheAccount() {
+        for (int i = 0; i < 10; i++) {
+            store.put(session("a" + i, 1L, Instant.now().plusSeconds(60)));
+        }
+        store.put(session("b", 2L, Instant.now().plusSeconds(60)));
+
+        assertEquals(10, store.removeAccount(1L));
+        assertEquals(1, store.size());
+        assertNotNull(store.get("b"));
+    }
+
+    @Test
+    void evictExpired_ShouldSweepAllShards() {
+        for (int i = 0; i < 10; i++) {
+            store.put(session("s" + i, 1L, Instant.now().minusSeconds(1)));
+        }
+
+        store.evictExpired();
+
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    void rememberMiss_ShouldBeClearedOnceTheSessionIsStored() {
+        store.rememberMiss("late");
+        assertTrue(store.isKnownMiss("late"));
+        assertFalse(store.isKnownMiss("other"));
+
+        store.put(session("late", 1L, Instant.now().plusSeconds(60)));
+
+        assertFalse(store.isKnownMiss("late"));
+        assertNotNull(store.get("late"));
+    }
+
+    private static OpaqueSession session(String digest, Long accountId, Instant expiresAt) {
+        return new OpaqueSession(digest, accountId, "user@gmail.com", RoleName.USER, 0, expiresAt);
+    }
+}
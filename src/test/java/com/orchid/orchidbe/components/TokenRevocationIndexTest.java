@@ -0,0 +1,55 @@
+/**
+ * Copyright (c) 2025 lcaohoanq. All rights reserved.
+ *
+ * This software is the confidential and proprietary information of lcaohoanq.
+ * You shall not disclose such confidential information and shall use it only in
+ * accordance with the terms of the license agreement you entered into with lcaohoanq.
+ */
+package com.orchid.orchidbe.components;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TokenRevocationIndexTest {
+
+    private TokenRevocationIndex index;
+
+    @BeforeEach
+    void init() {
+        index = new TokenRevocationIndex(new SimpleMeterRegistry());
+    }
+
+    @Test
+    void revoke_ShouldRejectTokenUntilItExpires() {
+        String digest = TokenDigest.sha256Hex("token");
+        index.revoke(digest, Instant.now().plusSeconds(60));
+
+        assertTrue(index.isRevoked(digest));
+        assertFalse(index.isRevoked(TokenDigest.sha256Hex("other-token")));
+    }
+
+    @Test
+    void revoke_ShouldIgnoreAlreadyExpiredTokens() {
+        index.revoke(TokenDigest.sha256Hex("token"), Instant.now().minusSeconds(1));
+
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void purgeExpired_ShouldOnlyDropExpiredEntries() throws Exception {
+        index.revoke("short-lived", Instant.now().plusMillis(20));
+        index.revoke("long-lived", Instant.now().plusSeconds(60));
+
+        Thread.sleep(40);
+        index.purgeExpired();
+
+        assertFalse(index.isRevoked("short-lived"));
+        assertTrue(index.isRevoked("long-lived"));
+    }
+}
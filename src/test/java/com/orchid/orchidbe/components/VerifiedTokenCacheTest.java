@@ -0,0 +1,96 @@
+/**
+ * Copyright (c) 2025 lcaohoanq. All rights reserved.
+ *
+ * This software is the confidential and proprietary information of lcaohoanq.
+ * You shall not disclose such confidential information and shall use it only in
+ * accordance with the terms of the license agreement you entered into with lcaohoanq.
+ */
+package com.orchid.orchidbe.components;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.orchid.orchidbe.exceptions.JwtAuthenticationException;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class VerifiedTokenCacheTest {
+
+    private JwtTokenUtils jwtTokenUtils;
+    private SimpleMeterRegistry registry;
+    private VerifiedTokenCache cache;
+
+    @BeforeEach
+    void init() {
+        jwtTokenUtils = mock(JwtTokenUtils.class);
+        registry = new SimpleMeterRegistry();
+        cache = new VerifiedTokenCache(jwtTokenUtils, registry, 100, Duration.ofMinutes(10));
+    }
+
+    @Test
+    void verify_ShouldVerifyARepeatedTokenOnce() {
+        VerifiedToken verified = verified("a.b.c", Instant.now().plusSeconds(60));
+        when(jwtTokenUtils.verifyToken("a.b.c")).thenReturn(verified);
+
+        assertSame(verified, cache.verify("a.b.c"));
+        assertSame(verified, cache.verify("a.b.c"));
+
+        verify(jwtTokenUtils, times(1)).verifyToken("a.b.c");
+        assertEquals(
+                1.0,
+                registry.get("cache.gets")
+                        .tags("cache", "auth.verified-tokens", "result", "hit")
+                        .functionCounter()
+                        .count());
+    }
+
+    @Test
+    void verify_ShouldVerifyAgainAfterInvalidate() {
+        VerifiedToken verified = verified("a.b.c", Instant.now().plusSeconds(60));
+        when(jwtTokenUtils.verifyToken("a.b.c")).thenReturn(verified);
+
+        cache.verify("a.b.c");
+        cache.invalidate(verified.digest());
+        cache.verify("a.b.c");
+
+        verify(jwtTokenUtils, times(2)).verifyToken("a.b.c");
+    }
+
+    @Test
+    void verify_ShouldNotKeepTokensPastTheirExpiry() {
+        when(jwtTokenUtils.verifyToken("a.b.c"))
+                .thenReturn(verified("a.b.c", Instant.now().minusSeconds(1)));
+
+        cache.verify("a.b.c");
+        cache.verify("a.b.c");
+
+        verify(jwtTokenUtils, times(2)).verifyToken("a.b.c");
+    }
+
+    @Test
+    void verify_ShouldNotCacheFailures() {
+        when(jwtTokenUtils.verifyToken("bad"))
+                .thenThrow(new JwtAuthenticationException("Invalid JWT signature"));
+
+        assertThrows(JwtAuthenticationException.class, () -> cache.verify("bad"));
+        assertThrows(JwtAuthenticationException.class, () -> cache.verify("bad"));
+
+        verify(jwtTokenUtils, times(2)).verifyToken("bad");
+    }
+
+    private static VerifiedToken verified(String token, Instant expiresAt) {
+        return new VerifiedToken(
+                token,
+                Jwts.claims().setSubject("user@gmail.com").setExpiration(Date.from(expiresAt)));
+    }
+}
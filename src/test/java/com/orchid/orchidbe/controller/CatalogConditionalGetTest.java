@@ -0,0 +1,133 @@
+/**
+ * Copyright (c) 2025 lcaohoanq. All rights reserved.
+ *
+ * This software is the confidential and proprietary information of lcaohoanq.
+ * You shall not disclose such confidential information and shall use it only in
+ * accordance with the terms of the license agreement you entered into with lcaohoanq.
+ */
+package com.orchid.orchidbe.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.containsStringIgnoringCase;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.options;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.orchid.orchidbe.IntegrationTest;
+import com.orchid.orchidbe.domain.orchid.OrchidCache;
+import com.orchid.orchidbe.domain.orchid.OrchidDTO.OrchidReq;
+import com.orchid.orchidbe.domain.orchid.OrchidService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser
+@TestPropertySource(
+        properties = {
+            "spring.jpa.properties.hibernate.generate_statistics=true",
+            "catalog.http-cache.categories=max-age=60"
+        })
+class CatalogConditionalGetTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private OrchidService orchidService;
+    @Autowired private OrchidCache orchidCache;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void getOrchids_ShouldAnswerMatchingTagWith304WithoutQueries() throws Exception {
+        String eTag = eTagOf("/api/orchids");
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        orchidCache.invalidateLists();
+        statistics.clear();
+
+        var notModified =
+                mockMvc.perform(get("/api/orchids").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                        .andExpect(status().isNotModified())
+                        .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                        .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                        .andReturn();
+
+        assertThat(notModified.getResponse().getContentAsString()).isEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void eTags_ShouldChangeOnEveryWrite() throws Exception {
+        String listTag = eTagOf("/api/orchids");
+        Long categoryId = orchidService.getAll().get(0).categoryId();
+        var added =
+                orchidService.add(
+                        new OrchidReq(false, "ETag test", "ETag orchid", null, 10.0, categoryId));
+        String path = "/api/orchids/" + added.id();
+        String itemTag = eTagOf(path);
+        assertThat(eTagOf("/api/orchids")).isNotEqualTo(listTag);
+
+        // weak form and lists are accepted
+        mockMvc.perform(get(path).header(HttpHeaders.IF_NONE_MATCH, "\"x\", W/" + itemTag))
+                .andExpect(status().isNotModified());
+
+        orchidService.update(
+                added.id(),
+                new OrchidReq(true, "ETag test", "ETag orchid", null, 20.0, categoryId));
+        mockMvc.perform(get(path).header(HttpHeaders.IF_NONE_MATCH, itemTag))
+                .andExpect(status().isOk());
+        assertThat(eTagOf(path)).isNotEqualTo(itemTag);
+
+        String beforeDelete = eTagOf("/api/orchids");
+        orchidService.deleteById(added.id());
+        assertThat(eTagOf("/api/orchids")).isNotEqualTo(beforeDelete);
+    }
+
+    @Test
+    void getCategories_ShouldUseTheirOwnTagsAndCacheControl() throws Exception {
+        String eTag = eTagOf("/api/categories");
+        assertThat(eTag).isNotEqualTo(eTagOf("/api/orchids"));
+
+        mockMvc.perform(get("/api/categories").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=60"));
+    }
+
+    @Test
+    void cors_ShouldLetBrowsersSendAndReadTheTags() throws Exception {
+        String origin = "http://localhost:5173";
+        mockMvc.perform(
+                        options("/api/orchids")
+                                .header(HttpHeaders.ORIGIN, origin)
+                                .header(HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD, "GET")
+                                .header(
+                                        HttpHeaders.ACCESS_CONTROL_REQUEST_HEADERS,
+                                        HttpHeaders.IF_NONE_MATCH))
+                .andExpect(status().isOk())
+                .andExpect(
+                        header().string(
+                                        HttpHeaders.ACCESS_CONTROL_ALLOW_HEADERS,
+                                        containsStringIgnoringCase(HttpHeaders.IF_NONE_MATCH)));
+
+        mockMvc.perform(get("/api/orchids").header(HttpHeaders.ORIGIN, origin))
+                .andExpect(status().isOk())
+                .andExpect(
+                        header().string(
+                                        HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS,
+                                        containsString(HttpHeaders.ETAG)));
+    }
+
+    private String eTagOf(String path) throws Exception {
+        var response =
+                mockMvc.perform(get(path)).andExpect(status().isOk()).andReturn().getResponse();
+        String eTag = response.getHeader(HttpHeaders.ETAG);
+        assertThat(eTag).startsWith("\"").endsWith("\"");
+        return eTag;
+    }
+}
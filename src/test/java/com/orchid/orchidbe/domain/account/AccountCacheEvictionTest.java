@@ -0,0 +1,70 @@
+/**
+ * Copyright (c) 2025 lcaohoanq. All rights reserved.
+ *
+ * This software is the confidential and proprietary information of lcaohoanq.
+ * You shall not disclose such confidential information and shall use it only in
+ * accordance with the terms of the license agreement you entered into with lcaohoanq.
+ */
+package com.orchid.orchidbe.domain.account;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.orchid.orchidbe.IntegrationTest;
+import com.orchid.orchidbe.components.TokenVersionCache;
+import com.orchid.orchidbe.domain.account.AccountDTO.UpdateAccountReq;
+import com.orchid.orchidbe.domain.role.Role.RoleName;
+import com.orchid.orchidbe.repositories.AccountRepository;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@IntegrationTest
+class AccountCacheEvictionTest {
+
+    @Autowired private AccountService accountService;
+    @Autowired private AccountRepository accountRepository;
+    @Autowired private TokenVersionCache tokenVersionCache;
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    @Test
+    void revokeAllSessions_ShouldEvictOnlyAfterCommit() {
+        Long id = accountRepository.findByEmail("manager@gmail.com").orElseThrow().getId();
+        int before = tokenVersionCache.currentVersion(id);
+
+        transactionTemplate.executeWithoutResult(
+                status -> {
+                    accountService.revokeAllSessions(id);
+                    // a request served before the commit reads, and caches, the old version
+                    assertThat(readElsewhere(id)).isEqualTo(before);
+                });
+
+        assertThat(tokenVersionCache.currentVersion(id)).isEqualTo(before + 1);
+    }
+
+    @Test
+    void update_ShouldEvictOnlyAfterCommit() {
+        var account = accountRepository.findByEmail("staff@gmail.com").orElseThrow();
+        Long id = account.getId();
+        int before = tokenVersionCache.currentVersion(id);
+        RoleName other =
+                account.getRoleName() == RoleName.MANAGER ? RoleName.STAFF : RoleName.MANAGER;
+
+        try {
+            transactionTemplate.executeWithoutResult(
+                    status -> {
+                        accountService.update(id, new UpdateAccountReq(null, null, null, other));
+                        assertThat(readElsewhere(id)).isEqualTo(before);
+                    });
+
+            assertThat(tokenVersionCache.currentVersion(id)).isEqualTo(before + 1);
+        } finally {
+            accountService.update(
+                    id, new UpdateAccountReq(null, null, null, account.getRoleName()));
+        }
+    }
+
+    private int readElsewhere(Long id) {
+        return CompletableFuture.supplyAsync(() -> tokenVersionCache.currentVersion(id)).join();
+    }
+}
@@ -0,0 +1,113 @@
+/**
+ * Copyright (c) 2025 lcaohoanq. All rights reserved.
+ *
+ * This software is the confidential and proprietary information of lcaohoanq.
+ * You shall not disclose such confidential information and shall use it only in
+ * accordance with the terms of the license agreement you entered into with lcaohoanq.
+ */
+package com.orchid.orchidbe.domain.auth;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.orchid.orchidbe.IntegrationTest;
+import com.orchid.orchidbe.repositories.TokenRepository;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+@IntegrationTest
+@AutoConfigureMockMvc
+@TestPropertySource(
+        properties = {
+            "auth.introspection.api-key=test-introspection-key",
+            "auth.introspection.max-tokens=3"
+        })
+class IntrospectionTest {
+
+    private static final String KEY = "test-introspection-key";
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private TokenRepository tokenRepository;
+
+    @AfterEach
+    void cleanUp() {
+        tokenRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void introspect_ShouldAnswerEachTokenInOrder() throws Exception {
+        String active = login("staff@gmail.com");
+        String loggedOut = login("user@gmail.com");
+        mockMvc.perform(post("/api/auth/logout").header("Authorization", "Bearer " + loggedOut))
+                .andExpect(status().isNoContent());
+
+        introspect(KEY, List.of(active, loggedOut, "not-a-token"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-store"))
+                .andExpect(jsonPath("$.data.results[0].active").value(true))
+                .andExpect(jsonPath("$.data.results[0].email").value("staff@gmail.com"))
+                .andExpect(jsonPath("$.data.results[0].role").value("STAFF"))
+                .andExpect(jsonPath("$.data.results[0].exp").isNumber())
+                .andExpect(jsonPath("$.data.results[0].cache_max_age").value(60))
+                .andExpect(jsonPath("$.data.results[1].active").value(false))
+                .andExpect(jsonPath("$.data.results[1].revoked").value(true))
+                .andExpect(jsonPath("$.data.results[1].email").doesNotExist())
+                .andExpect(jsonPath("$.data.results[2].active").value(false))
+                .andExpect(jsonPath("$.data.results[2].revoked").value(false));
+    }
+
+    @Test
+    void introspect_ShouldLetCallersCacheAllActiveBatches() throws Exception {
+        String active = login("staff@gmail.com");
+
+        introspect(KEY, List.of(active))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "max-age=60, private"));
+    }
+
+    @Test
+    void introspect_ShouldRejectWrongKeyAndOversizedBatches() throws Exception {
+        introspect("wrong-key", List.of("a")).andExpect(status().isUnauthorized());
+        introspect(null, List.of("a")).andExpect(status().isUnauthorized());
+        introspect(KEY, List.of("a", "b", "c", "d")).andExpect(status().isBadRequest());
+    }
+
+    private ResultActions introspect(String key, List<String> tokens) throws Exception {
+        var request =
+                post("/api/auth/introspect")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("tokens", tokens)));
+        if (key != null) {
+            request.header("X-Introspection-Key", key);
+        }
+        return mockMvc.perform(request);
+    }
+
+    private String login(String email) throws Exception {
+        String body =
+                mockMvc.perform(
+                                post("/api/auth/login")
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .content(
+                                                "{\"email\":\""
+                                                        + email
+                                                        + "\",\"password\":\"Iloveyou123^^\"}"))
+                        .andExpect(status().isOk())
+                        .andReturn()
+                        .getResponse()
+                        .getContentAsString();
+        return objectMapper.readTree(body).get("data").get("token").get("access_token").asText();
+    }
+}
@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) 2025 lcaohoanq. All rights reserved.
+ *
+ * This software is the confidential and proprietary information of lcaohoanq.
+ * You shall not disclose such confidential information and shall use it only in
+ * accordance with the terms of the license agreement you entered into with lcaohoanq.
+ */
+package com.orchid.orchidbe.domain.auth;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.orchid.orchidbe.IntegrationTest;
+import com.orchid.orchidbe.repositories.TokenRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+@IntegrationTest
+@AutoConfigureMockMvc
+class LogoutAllTest {
+
+    private static final String EMAIL = "staff@gmail.com";
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private TokenRepository tokenRepository;
+
+    @AfterEach
+    void cleanUp() {
+        tokenRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void logoutAll_ShouldInvalidateEverySessionOfTheAccount() throws Exception {
+        JsonNode phone = login();
+        JsonNode laptop = login();
+
+        mockMvc.perform(post("/api/auth/logout-all").header("Authorization", bearer(phone)))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/accounts/me").header("Authorization", bearer(phone)))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/accounts/me").header("Authorization", bearer(laptop)))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(
+                        post("/api/auth/refresh-token")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(
+                                        "{\"refreshToken\":\""
+                                                + laptop.get("refresh_token").asText()
+                                                + "\"}"))
+                .andExpect(status().isUnauthorized());
+
+        JsonNode fresh = login();
+        mockMvc.perform(get("/api/accounts/me").header("Authorization", bearer(fresh)))
+                .andExpect(status().isOk());
+    }
+
+    private JsonNode login() throws Exception {
+        String body =
+                mockMvc.perform(
+                                post("/api/auth/login")
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .content(
+                                                "{\"email\":\""
+                                                        + EMAIL
+                                                        + "\",\"password\":\"Iloveyou123^^\"}"))
+                        .andExpect(status().isOk())
+                        .andReturn()
+                        .getResponse()
+                        .getContentAsString();
+        return objectMapper.readTree(body).get("data").get("token");
+    }
+
+    private static String bearer(JsonNode token) {
+        return "Bearer " + token.get("access_token").asText();
+    }
+}
@@ -0,0 +1,99 @@
+/**
+ * Copyright (c) 2025 lcaohoanq. All rights reserved.
+ *
+ * This software is the confidential and proprietary information of lcaohoanq.
+ * You shall not disclose such confidential information and shall use it only in
+ * accordance with the terms of the license agreement you entered into with lcaohoanq.
+ */
+package com.orchid.orchidbe.domain.orchid;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.orchid.orchidbe.IntegrationTest;
+import com.orchid.orchidbe.domain.orchid.OrchidDTO.OrchidReq;
+import com.orchid.orchidbe.domain.orchid.OrchidDTO.OrchidRes;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+
+@IntegrationTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class OrchidCacheTest {
+
+    @Autowired private OrchidService orchidService;
+    @Autowired private OrchidCache orchidCache;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void getById_ShouldReadTheDatabaseOnceUntilUpdated() {
+        OrchidRes orchid = orchidService.getAll().get(0);
+        orchidCache.invalidate(orchid.id());
+        statistics.clear();
+
+        orchidService.getById(orchid.id());
+        long loads = statistics.getPrepareStatementCount();
+        orchidService.getById(orchid.id());
+
+        assertThat(loads).isPositive();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(loads);
+        assertThat(
+                        meterRegistry
+                                .get("cache.gets")
+                                .tags("cache", "orchids.by-id", "result", "hit")
+                                .functionCounter()
+                                .count())
+                .isPositive();
+
+        String renamed = orchid.name() + " (renamed)";
+        orchidService.update(orchid.id(), request(orchid, renamed));
+        try {
+            assertThat(orchidService.getById(orchid.id()).name()).isEqualTo(renamed);
+        } finally {
+            orchidService.update(orchid.id(), request(orchid, orchid.name()));
+        }
+    }
+
+    @Test
+    void lists_ShouldBeServedFromCacheUntilAnOrchidIsAddedOrDeleted() {
+        orchidCache.invalidateLists();
+        int size = orchidService.getAll().size();
+        var firstPage = orchidService.getAll(PageRequest.of(0, 2));
+        statistics.clear();
+
+        assertThat(orchidService.getAll()).hasSize(size);
+        assertThat(orchidService.getAll(PageRequest.of(0, 2))).isSameAs(firstPage);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        OrchidRes template = orchidService.getAll().get(0);
+        OrchidRes added = orchidService.add(request(template, "Cache test orchid"));
+        assertThat(orchidService.getAll()).hasSize(size + 1);
+        assertThat(orchidService.getAll(PageRequest.of(0, 2))).isNotSameAs(firstPage);
+
+        orchidService.deleteById(added.id());
+        assertThat(orchidService.getAll()).hasSize(size);
+    }
+
+    private static OrchidReq request(OrchidRes orchid, String name) {
+        return new OrchidReq(
+                orchid.isNatural(),
+                orchid.description(),
+                name,
+                orchid.url(),
+                orchid.price(),
+                orchid.categoryId());
+    }
+}
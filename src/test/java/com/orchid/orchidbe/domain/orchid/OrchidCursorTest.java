@@ -0,0 +1,120 @@
+/**
+ * Copyright (c) 2025 lcaohoanq. All rights reserved.
+ *
+ * This software is the confidential and proprietary information of lcaohoanq.
+ * You shall not disclose such confidential information and shall use it only in
+ * accordance with the terms of the license agreement you entered into with lcaohoanq.
+ */
+package com.orchid.orchidbe.domain.orchid;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.orchid.orchidbe.IntegrationTest;
+import com.orchid.orchidbe.domain.orchid.OrchidDTO.OrchidRes;
+import com.orchid.orchidbe.repositories.OrchidRepository;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+
+@IntegrationTest
+class OrchidCursorTest {
+
+    @Autowired private OrchidService orchidService;
+    @Autowired private OrchidRepository orchidRepository;
+
+    private final List<Orchid> added = new ArrayList<>();
+
+    @BeforeEach
+    void addOrchids() {
+        var category = orchidRepository.findAll().get(0).getCategory();
+        // ties and null keys, the cases a naive "key > last key" seek gets wrong
+        Object[][] rows = {
+            {"Keyset B", 10.0},
+            {"Keyset A", 10.0},
+            {"Keyset C", 5.0},
+            {null, null},
+            {"Keyset D", null}
+        };
+        for (Object[] row : rows) {
+            added.add(
+                    orchidRepository.save(
+                            Orchid.builder()
+                                    .name((String) row[0])
+                                    .price((Double) row[1])
+                                    .category(category)
+                                    .build()));
+        }
+    }
+
+    @AfterEach
+    void removeOrchids() {
+        orchidRepository.deleteAll(added);
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {"id,asc", "id,desc", "price,asc", "price,desc", "name,asc", "name,desc"})
+    void walk_ShouldVisitEveryOrchidOnceInSortOrder(String sort) {
+        List<Long> visited = new ArrayList<>();
+        String cursor = "";
+        int pages = 0;
+        do {
+            var slice = orchidService.getAll(cursor, sort, 2);
+            assertThat(slice.content()).hasSizeLessThanOrEqualTo(2);
+            slice.content().forEach(orchid -> visited.add(orchid.id()));
+            cursor = slice.nextCursor();
+            pages++;
+        } while (cursor != null && pages < 100);
+
+        assertThat(visited).containsExactlyElementsOf(expectedOrder(sort));
+    }
+
+    @Test
+    void invalidCursorOrSort_ShouldBeRejected() {
+        assertThatThrownBy(() -> orchidService.getAll("bm90LWEtY3Vyc29y", "id", 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid cursor");
+        assertThatThrownBy(() -> orchidService.getAll("", "description,asc", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /** Key order with nulls last in both directions, ties broken by id in the same direction. */
+    private List<Long> expectedOrder(String sort) {
+        String[] parts = sort.split(",");
+        Function<OrchidRes, Object> key =
+                switch (parts[0]) {
+                    case "price" -> OrchidRes::price;
+                    case "name" -> OrchidRes::name;
+                    default -> OrchidRes::id;
+                };
+        Comparator<OrchidRes> order =
+                switch (parts[0]) {
+                    case "price" -> Comparator.comparing(OrchidRes::price, nullsFirst());
+                    case "name" -> Comparator.comparing(OrchidRes::name, nullsFirst());
+                    default -> Comparator.comparing(OrchidRes::id);
+                };
+        order = order.thenComparing(OrchidRes::id);
+        if (parts[1].equals("desc")) {
+            order = order.reversed();
+        }
+        Comparator<OrchidRes> nullsLast = Comparator.comparing(orchid -> key.apply(orchid) == null);
+        // straight from the repository, the orchids were added behind the service's cache
+        return orchidRepository.findAll().stream()
+                .map(Orchid::from)
+                .sorted(nullsLast.thenComparing(order))
+                .map(OrchidRes::id)
+                .toList();
+    }
+
+    private static <T extends Comparable<T>> Comparator<T> nullsFirst() {
+        return Comparator.nullsFirst(Comparator.naturalOrder());
+    }
+}
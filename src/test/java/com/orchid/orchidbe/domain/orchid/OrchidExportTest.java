@@ -0,0 +1,131 @@
+/**
+ * Copyright (c) 2025 lcaohoanq. All rights reserved.
+ *
+ * This software is the confidential and proprietary information of lcaohoanq.
+ * You shall not disclose such confidential information and shall use it only in
+ * accordance with the terms of the license agreement you entered into with lcaohoanq.
+ */
+package com.orchid.orchidbe.domain.orchid;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.orchid.orchidbe.IntegrationTest;
+import com.orchid.orchidbe.domain.orchid.OrchidDTO.OrchidReq;
+import com.orchid.orchidbe.domain.orchid.OrchidDTO.OrchidRes;
+import com.orchid.orchidbe.domain.orchid.OrchidExport.Format;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser
+// smaller than the catalog, so every export spans several pages
+@TestPropertySource(properties = "catalog.export.page-size=2")
+class OrchidExportTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private OrchidService orchidService;
+    @Autowired private ObjectMapper objectMapper;
+
+    @Test
+    void export_ShouldWriteOneJsonObjectPerLineById() throws Exception {
+        var expected = orchidService.getAll();
+
+        String[] lines = export(MediaType.APPLICATION_NDJSON_VALUE).split("\n");
+
+        assertThat(lines).hasSize(expected.size());
+        var exported = new ArrayList<OrchidRes>();
+        for (String line : lines) {
+            exported.add(objectMapper.readValue(line, OrchidRes.class));
+        }
+        assertThat(exported).extracting(OrchidRes::id).isSorted();
+        assertThat(exported)
+                .extracting(OrchidRes::id, OrchidRes::name, OrchidRes::price)
+                .containsExactlyInAnyOrderElementsOf(
+                        expected.stream().map(o -> tuple(o.id(), o.name(), o.price())).toList());
+    }
+
+    @Test
+    void export_ShouldWriteQuotedCsvWhenAskedFor() throws Exception {
+        Long categoryId = orchidService.getAll().get(0).categoryId();
+        var added =
+                orchidService.add(
+                        new OrchidReq(
+                                true, "Export, \"quoted\"", "Export test", null, 5.0, categoryId));
+        try {
+            String[] lines = export("text/csv, application/x-ndjson;q=0.5").split("\r\n");
+
+            assertThat(lines[0]).startsWith("id,isNatural,description,name");
+            assertThat(lines).hasSize(orchidService.getAll().size() + 1);
+            assertThat(lines)
+                    .anyMatch(
+                            line ->
+                                    line.startsWith(
+                                            added.id()
+                                                    + ",true,\"Export, \"\"quoted\"\"\",Export"
+                                                    + " test,"));
+        } finally {
+            orchidService.deleteById(added.id());
+        }
+    }
+
+    @Test
+    void export_ShouldHoldNoTransactionWhileWriting() {
+        var exported = new ArrayList<Long>();
+
+        orchidService.export(
+                orchid -> {
+                    assertThat(TransactionSynchronizationManager.isActualTransactionActive())
+                            .isFalse();
+                    exported.add(orchid.id());
+                });
+
+        assertThat(exported)
+                .isSorted()
+                .doesNotHaveDuplicates()
+                .hasSize(orchidService.getAll().size());
+    }
+
+    @Test
+    void negotiate_ShouldFollowAcceptOrderAndQuality() {
+        assertThat(Format.negotiate(null)).isEqualTo(Format.NDJSON);
+        assertThat(Format.negotiate("*/*")).isEqualTo(Format.NDJSON);
+        assertThat(Format.negotiate("text/*")).isEqualTo(Format.CSV);
+        assertThat(Format.negotiate("application/x-ndjson;q=0.8, text/csv")).isEqualTo(Format.CSV);
+        assertThat(Format.negotiate("application/x-ndjson, text/csv")).isEqualTo(Format.NDJSON);
+    }
+
+    private String export(String accept) throws Exception {
+        var started =
+                mockMvc.perform(get("/api/orchids/export").header(HttpHeaders.ACCEPT, accept))
+                        .andExpect(request().asyncStarted())
+                        .andReturn();
+        return mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(
+                        content()
+                                .contentTypeCompatibleWith(
+                                        accept.startsWith("text/csv")
+                                                ? MediaType.parseMediaType("text/csv")
+                                                : MediaType.APPLICATION_NDJSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,162 @@
+/**
+ * Copyright (c) 2025 lcaohoanq. All rights reserved.
+ *
+ * This software is the confidential and proprietary information of lcaohoanq.
+ * You shall not disclose such confidential information and shall use it only in
+ * accordance with the terms of the license agreement you entered into with lcaohoanq.
+ */
+package com.orchid.orchidbe.domain.orchid;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.orchid.orchidbe.domain.orchid.OrchidDTO.OrchidRes;
+import com.orchid.orchidbe.domain.orchid.OrchidFacetIndex.Filter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class OrchidFacetIndexTest {
+
+    private OrchidFacetIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new OrchidFacetIndex();
+        try (var rebuild = index.beginRebuild()) {
+            rebuild.complete(
+                    List.of(
+                            orchid(1, 1L, true, 10.0),
+                            orchid(2, 1L, false, 20.0),
+                            orchid(3, 2L, true, 30.0),
+                            orchid(4, 2L, true, null),
+                            orchid(5, 3L, false, 20.0)));
+        }
+    }
+
+    @Test
+    void query_ShouldCountEveryFacetWithoutFilters() {
+        var result = index.query(new Filter(null, null, null, null), 10);
+
+        assertThat(result.total()).isEqualTo(5);
+        assertThat(result.ids()).containsExactly(1, 2, 3, 4, 5);
+        assertThat(result.categories()).containsExactly(entry(1L, 2), entry(2L, 2), entry(3L, 1));
+        assertThat(result.natural()).containsExactly(entry(false, 2), entry(true, 3));
+    }
+
+    @Test
+    void query_ShouldCountEachFacetAgainstTheOtherFilters() {
+        var result = index.query(new Filter(null, 15.0, 30.0, true), 10);
+
+        assertThat(result.ids()).containsExactly(3);
+        // natural orchids priced 15 to 30, per category
+        assertThat(result.categories()).containsExactly(entry(1L, 0), entry(2L, 1), entry(3L, 0));
+        // orchids priced 15 to 30 (2, 3 and 5), per flag
+        assertThat(result.natural()).containsExactly(entry(false, 2), entry(true, 1));
+
+        var inCategory = index.query(new Filter(2L, null, null, null), 10);
+        assertThat(inCategory.ids()).containsExactly(3, 4);
+        assertThat(inCategory.categories()).containsEntry(1L, 2).containsEntry(3L, 1);
+        assertThat(inCategory.natural()).containsExactly(entry(false, 0), entry(true, 2));
+    }
+
+    @Test
+    void query_ShouldTreatPriceBoundsAsInclusiveAndLimitIds() {
+        assertThat(index.query(new Filter(null, 20.0, 20.0, null), 10).ids()).containsExactly(2, 5);
+        assertThat(index.query(new Filter(null, null, 10.0, null), 10).ids()).containsExactly(1);
+        assertThat(index.query(new Filter(null, 31.0, null, null), 10).total()).isZero();
+
+        var limited = index.query(new Filter(null, null, null, null), 2);
+        assertThat(limited.total()).isEqualTo(5);
+        assertThat(limited.ids()).containsExactly(1, 2);
+    }
+
+    @Test
+    void putAndRemove_ShouldMatchABruteForceScan() {
+        Random random = new Random(7);
+        Map<Long, OrchidRes> catalog = new HashMap<>();
+        for (long id = 1; id <= 300; id++) {
+            catalog.put(id, randomOrchid(random, id));
+        }
+        try (var rebuild = index.beginRebuild()) {
+            rebuild.complete(catalog.values());
+        }
+        for (int i = 0; i < 500; i++) {
+            long id = 1 + random.nextInt(400);
+            if (random.nextInt(4) == 0) {
+                catalog.remove(id);
+                index.remove(id);
+            } else {
+                OrchidRes orchid = randomOrchid(random, id);
+                catalog.put(id, orchid);
+                index.put(id, orchid.categoryId(), orchid.isNatural(), orchid.price());
+            }
+        }
+
+        for (int i = 0; i < 50; i++) {
+            double min = random.nextInt(100);
+            var filter =
+                    new Filter(
+                            random.nextBoolean() ? null : (long) random.nextInt(4),
+                            min,
+                            min + random.nextInt(50),
+                            random.nextBoolean() ? null : random.nextBoolean());
+            int[] expected =
+                    catalog.values().stream()
+                            .filter(orchid -> matches(orchid, filter))
+                            .mapToInt(orchid -> orchid.id().intValue())
+                            .sorted()
+                            .toArray();
+            var result = index.query(filter, 1000);
+            assertThat(result.ids()).containsExactly(expected);
+            assertThat(result.total()).isEqualTo(expected.length);
+        }
+    }
+
+    @Test
+    void rebuild_ShouldServeQueriesAndKeepWritesWhileLoading() {
+        var everything = new Filter(null, null, null, null);
+        try (var rebuild = index.beginRebuild()) {
+            // the rows are being read, another thread still queries the old index
+            assertThat(
+                            CompletableFuture.supplyAsync(() -> index.query(everything, 10))
+                                    .orTimeout(5, TimeUnit.SECONDS)
+                                    .join()
+                                    .total())
+                    .isEqualTo(5);
+            index.put(6, 3L, true, 5.0);
+            index.remove(1);
+            rebuild.complete(List.of(orchid(1, 1L, true, 10.0), orchid(2, 1L, false, 20.0)));
+        }
+
+        var result = index.query(everything, 10);
+        assertThat(result.ids()).containsExactly(2, 6);
+        assertThat(index.query(new Filter(null, null, 5.0, null), 10).ids()).containsExactly(6);
+    }
+
+    private static boolean matches(OrchidRes orchid, Filter filter) {
+        return (filter.categoryId() == null || filter.categoryId().equals(orchid.categoryId()))
+                && (filter.natural() == null || filter.natural() == orchid.isNatural())
+                && orchid.price() != null
+                && orchid.price() >= filter.minPrice()
+                && orchid.price() <= filter.maxPrice();
+    }
+
+    private static OrchidRes randomOrchid(Random random, long id) {
+        Double price = random.nextInt(10) == 0 ? null : (double) random.nextInt(150);
+        return orchid(id, (long) random.nextInt(4), random.nextBoolean(), price);
+    }
+
+    private static OrchidRes orchid(long id, Long categoryId, boolean natural, Double price) {
+        return new OrchidRes(
+                id, natural, null, "Orchid " + id, null, price, categoryId, null, null);
+    }
+
+    private static <K> Map.Entry<K, Integer> entry(K key, int count) {
+        return Map.entry(key, count);
+    }
+}
@@ -0,0 +1,49 @@
+/**
+ * Copyright (c) 2025 lcaohoanq. All rights reserved.
+ *
+ * This software is the confidential and proprietary information of lcaohoanq.
+ * You shall not disclose such confidential information and shall use it only in
+ * accordance with the terms of the license agreement you entered into with lcaohoanq.
+ */
+package com.orchid.orchidbe.domain.orchid;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.orchid.orchidbe.IntegrationTest;
+import com.orchid.orchidbe.domain.orchid.OrchidDTO.OrchidReq;
+import com.orchid.orchidbe.domain.orchid.OrchidDTO.OrchidRes;
+import com.orchid.orchidbe.domain.orchid.OrchidFacetIndex.Filter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+@IntegrationTest
+class OrchidFacetsTest {
+
+    @Autowired private OrchidService orchidService;
+
+    @Test
+    void filter_ShouldFollowAddUpdateAndDelete() {
+        var all = orchidService.filter(new Filter(null, null, null, null), 100);
+        assertThat(all.total()).isEqualTo(orchidService.getAll().size());
+        assertThat(all.content()).extracting(OrchidRes::id).isSorted();
+
+        Long categoryId = all.content().get(0).categoryId();
+        var expensive = new Filter(null, 900_000.0, null, null);
+        var added =
+                orchidService.add(
+                        new OrchidReq(
+                                false, "Facet test", "Facet orchid", null, 950_000.0, categoryId));
+        var found = orchidService.filter(expensive, 10);
+        assertThat(found.content()).extracting(OrchidRes::id).containsExactly(added.id());
+        assertThat(found.natural()).containsEntry(false, 1).containsEntry(true, 0);
+
+        orchidService.update(
+                added.id(),
+                new OrchidReq(true, "Facet test", "Facet orchid", null, 1.0, categoryId));
+        assertThat(orchidService.filter(expensive, 10).total()).isZero();
+
+        orchidService.deleteById(added.id());
+        assertThat(orchidService.filter(new Filter(null, null, null, null), 100).total())
+                .isEqualTo(all.total());
+    }
+}
@@ -0,0 +1,81 @@
+/**
+ * Copyright (c) 2025 lcaohoanq. All rights reserved.
+ *
+ * This software is the confidential and proprietary information of lcaohoanq.
+ * You shall not disclose such confidential information and shall use it only in
+ * accordance with the terms of the license agreement you entered into with lcaohoanq.
+ */
+package com.orchid.orchidbe.domain.orchid;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.orchid.orchidbe.IntegrationTest;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.TestPropertySource;
+
+@IntegrationTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class OrchidReadQueryTest {
+
+    @Autowired private OrchidService orchidService;
+    @Autowired private OrchidCache orchidCache;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        // every read below has to reach the database
+        orchidCache.invalidateLists();
+        statistics.clear();
+    }
+
+    @Test
+    void getAll_ShouldRunOneStatementAndLoadNoEntities() {
+        var orchids = orchidService.getAll();
+
+        assertThat(orchids).isNotEmpty().allSatisfy(o -> assertThat(o.categoryId()).isNotNull());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void getAllPaged_ShouldRunOnlyThePageAndCountStatements() {
+        var page = orchidService.getAll(PageRequest.of(0, 2, Sort.by("price").descending()));
+
+        assertThat(page.getContent()).hasSize(2);
+        assertThat(page.getTotalElements()).isGreaterThan(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void getById_ShouldRunOneStatementAndLoadNoEntities() {
+        var id = orchidService.getAll().get(0).id();
+        orchidCache.invalidate(id);
+        statistics.clear();
+
+        var orchid = orchidService.getById(id);
+
+        assertThat(orchid.categoryId()).isNotNull();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void getAllByCursor_ShouldRunOneStatementAndLoadNoEntities() {
+        var slice = orchidService.getAll("", "id,asc", 2);
+
+        assertThat(slice.content()).hasSize(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+}
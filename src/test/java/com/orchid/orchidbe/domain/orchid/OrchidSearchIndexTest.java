@@ -0,0 +1,110 @@
+/**
+ * Copyright (c) 2025 lcaohoanq. All rights reserved.
+ *
+ * This software is the confidential and proprietary information of lcaohoanq.
+ * You shall not disclose such confidential information and shall use it only in
+ * accordance with the terms of the license agreement you entered into with lcaohoanq.
+ */
+package com.orchid.orchidbe.domain.orchid;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.orchid.orchidbe.domain.orchid.OrchidDTO.OrchidRes;
+import com.orchid.orchidbe.domain.orchid.OrchidSearchIndex.Hit;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class OrchidSearchIndexTest {
+
+    private OrchidSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new OrchidSearchIndex(1.2f, 0.75f);
+        try (var rebuild = index.beginRebuild()) {
+            rebuild.complete(
+                    List.of(
+                            orchid(1, "Phalaenopsis", "White moth orchid, easy to grow"),
+                            orchid(2, "Cattleya", "Hybrid orchid with a white lip"),
+                            orchid(3, "Dendrobium", "Cane orchid from Việt Nam"),
+                            orchid(4, "White Dendrobium", "Cane orchid")));
+        }
+    }
+
+    @Test
+    void search_ShouldRankNameMatchesFirst() {
+        assertThat(ids(index.search("white", 10))).containsExactly(4L, 1L, 2L);
+    }
+
+    @Test
+    void search_ShouldIgnoreCaseAndAccents() {
+        assertThat(ids(index.search("VIET nam", 10))).containsExactly(3L);
+        assertThat(index.search("xyz", 10)).isEmpty();
+        assertThat(index.search("  ", 10)).isEmpty();
+    }
+
+    @Test
+    void search_ShouldScoreRareTermsHigher() {
+        List<Hit> hits = index.search("orchid hybrid", 10);
+
+        assertThat(hits.get(0).id()).isEqualTo(2L);
+        assertThat(hits)
+                .hasSize(4)
+                .isSortedAccordingTo((a, b) -> Float.compare(b.score(), a.score()));
+    }
+
+    @Test
+    void putAndRemove_ShouldUpdateTheIndexInPlace() {
+        index.put(2, "Vanilla", "Climbing orchid");
+        index.remove(4);
+
+        assertThat(ids(index.search("white", 10))).containsExactly(1L);
+        assertThat(ids(index.search("vanilla", 10))).containsExactly(2L);
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    void remove_ShouldKeepResultsRightAcrossCompaction() {
+        LongStream.range(100, 3100).forEach(id -> index.put(id, "Bulk " + id, "filler"));
+        LongStream.range(100, 3000).forEach(index::remove);
+
+        assertThat(index.size()).isEqualTo(104);
+        assertThat(ids(index.search("bulk", 500)))
+                .containsExactlyElementsOf(LongStream.range(3000, 3100).boxed().toList());
+        assertThat(ids(index.search("white", 10))).containsExactly(4L, 1L, 2L);
+    }
+
+    @Test
+    void rebuild_ShouldServeSearchesAndKeepWritesWhileLoading() {
+        try (var rebuild = index.beginRebuild()) {
+            // the rows are being read, another thread still searches the old index
+            assertThat(
+                            CompletableFuture.supplyAsync(() -> ids(index.search("white", 10)))
+                                    .orTimeout(5, TimeUnit.SECONDS)
+                                    .join())
+                    .containsExactly(4L, 1L, 2L);
+            index.put(5, "Vanda", "Blue orchid");
+            index.remove(1);
+            rebuild.complete(
+                    List.of(
+                            orchid(1, "Phalaenopsis", "White moth orchid, easy to grow"),
+                            orchid(2, "Cattleya", "Hybrid orchid with a white lip")));
+        }
+
+        assertThat(ids(index.search("white", 10))).containsExactly(2L);
+        assertThat(ids(index.search("vanda", 10))).containsExactly(5L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    private static List<Long> ids(List<Hit> hits) {
+        return hits.stream().map(Hit::id).toList();
+    }
+
+    private static OrchidRes orchid(long id, String name, String description) {
+        return new OrchidRes(id, true, description, name, null, 10.0, 1L, null, null);
+    }
+}
@@ -0,0 +1,53 @@
+/**
+ * Copyright (c) 2025 lcaohoanq. All rights reserved.
+ *
+ * This software is the confidential and proprietary information of lcaohoanq.
+ * You shall not disclose such confidential information and shall use it only in
+ * accordance with the terms of the license agreement you entered into with lcaohoanq.
+ */
+package com.orchid.orchidbe.domain.orchid;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.orchid.orchidbe.IntegrationTest;
+import com.orchid.orchidbe.domain.orchid.OrchidDTO.OrchidHit;
+import com.orchid.orchidbe.domain.orchid.OrchidDTO.OrchidReq;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+@IntegrationTest
+class OrchidSearchTest {
+
+    @Autowired private OrchidService orchidService;
+
+    @Test
+    void search_ShouldFollowAddUpdateAndDelete() {
+        assertThat(names(orchidService.search("phalaenopsis", 10))).contains("Phalaenopsis");
+
+        Long categoryId = orchidService.getAll().get(0).categoryId();
+        var added =
+                orchidService.add(
+                        new OrchidReq(
+                                true,
+                                "Fragrant lady slipper",
+                                "Paphiopedilum",
+                                null,
+                                12.0,
+                                categoryId));
+        assertThat(names(orchidService.search("slipper", 10))).containsExactly("Paphiopedilum");
+
+        orchidService.update(
+                added.id(),
+                new OrchidReq(true, "Tropical epiphyte", "Vanda", null, 12.0, categoryId));
+        assertThat(orchidService.search("slipper", 10)).isEmpty();
+        assertThat(names(orchidService.search("epiphyte", 10))).containsExactly("Vanda");
+
+        orchidService.deleteById(added.id());
+        assertThat(orchidService.search("vanda", 10)).isEmpty();
+    }
+
+    private static List<String> names(List<OrchidHit> hits) {
+        return hits.stream().map(hit -> hit.orchid().name()).toList();
+    }
+}
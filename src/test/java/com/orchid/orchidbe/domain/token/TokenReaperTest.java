@@ -0,0 +1,72 @@
+/**
+ * Copyright (c) 2025 lcaohoanq. All rights reserved.
+ *
+ * This software is the confidential and proprietary information of lcaohoanq.
+ * You shall not disclose such confidential information and shall use it only in
+ * accordance with the terms of the license agreement you entered into with lcaohoanq.
+ */
+package com.orchid.orchidbe.domain.token;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.orchid.orchidbe.IntegrationTest;
+import com.orchid.orchidbe.domain.account.Account;
+import com.orchid.orchidbe.repositories.AccountRepository;
+import com.orchid.orchidbe.repositories.TokenRepository;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+@IntegrationTest
+@TestPropertySource(properties = {"jwt.reaper.chunk-size=2", "jwt.reaper.chunk-pause=0"})
+class TokenReaperTest {
+
+    @Autowired private TokenReaper tokenReaper;
+    @Autowired private TokenRepository tokenRepository;
+    @Autowired private AccountRepository accountRepository;
+
+    @AfterEach
+    void cleanUp() {
+        tokenRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void reap_ShouldDeleteOnlyRowsThatCanNoLongerBeUsed() {
+        Account account = accountRepository.findByEmail("admin@gmail.com").orElseThrow();
+        LocalDateTime now = LocalDateTime.now();
+        Token live = save(account, false, now.plusHours(1), now.plusDays(1));
+        Token refreshable = save(account, false, now.minusHours(1), now.plusDays(1));
+        Token revokedLive = save(account, true, now.plusHours(1), now.plusDays(1));
+        save(account, false, now.minusDays(2), now.minusDays(1));
+        save(account, false, now.minusDays(3), now.minusDays(2));
+        save(account, true, now.minusHours(1), now.plusDays(1));
+
+        tokenReaper.reap();
+
+        // three dead rows with chunks of two: the loop must have gone past the first chunk
+        assertThat(tokenRepository.findAll())
+                .extracting(Token::getId)
+                .containsExactlyInAnyOrder(live.getId(), refreshable.getId(), revokedLive.getId());
+    }
+
+    private Token save(
+            Account account,
+            boolean revoked,
+            LocalDateTime expirationDate,
+            LocalDateTime refreshExpirationDate) {
+        Token token =
+                Token.builder()
+                        .account(account)
+                        .tokenType("Bearer")
+                        .revoked(revoked)
+                        .expirationDate(expirationDate)
+                        .refreshExpirationDate(refreshExpirationDate)
+                        .build();
+        token.setToken(UUID.randomUUID().toString());
+        token.setRefreshToken(UUID.randomUUID().toString());
+        return tokenRepository.save(token);
+    }
+}
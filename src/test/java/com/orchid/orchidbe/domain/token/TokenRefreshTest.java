@@ -0,0 +1,134 @@
+/**
+ * Copyright (c) 2025 lcaohoanq. All rights reserved.
+ *
+ * This software is the confidential and proprietary information of lcaohoanq.
+ * You shall not disclose such confidential information and shall use it only in
+ * accordance with the terms of the license agreement you entered into with lcaohoanq.
+ */
+package com.orchid.orchidbe.domain.token;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.orchid.orchidbe.IntegrationTest;
+import com.orchid.orchidbe.domain.account.Account;
+import com.orchid.orchidbe.exceptions.TokenNotFoundException;
+import com.orchid.orchidbe.repositories.AccountRepository;
+import com.orchid.orchidbe.repositories.TokenRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.hibernate.SessionFactory;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+@IntegrationTest
+@TestPropertySource(
+        properties = {
+            "spring.jpa.properties.hibernate.generate_statistics=true",
+            "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                    + "com.orchid.orchidbe.domain.token.TokenRefreshTest$Statements"
+        })
+class TokenRefreshTest {
+
+    /** Records the SQL Hibernate prepares. */
+    public static class Statements implements StatementInspector {
+
+        static final List<String> recorded = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            recorded.add(sql);
+            return sql;
+        }
+    }
+
+    @Autowired private TokenService tokenService;
+    @Autowired private TokenRepository tokenRepository;
+    @Autowired private AccountRepository accountRepository;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void cleanUp() {
+        tokenRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void refreshToken_ShouldTakeTwoReadsAndTwoWrites() throws Exception {
+        Account account = accountRepository.findByEmail("staff@gmail.com").orElseThrow();
+        Token issued = tokenService.addToken(account, UUID.randomUUID().toString(), true);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Token refreshed = tokenService.refreshToken(issued.getRefreshToken());
+
+        // the locked row, its account and role, the rotation, then the revoked row kept for the
+        // old access token
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+        assertThat(refreshed.getId()).isEqualTo(issued.getId());
+        assertThat(refreshed.getRefreshToken()).isNotEqualTo(issued.getRefreshToken());
+        assertThat(refreshed.getAccount().getRoleName()).isEqualTo(account.getRoleName());
+    }
+
+    @Test
+    void refreshToken_ShouldLockOnlyTheTokenRow() throws Exception {
+        Account account = accountRepository.findByEmail("staff@gmail.com").orElseThrow();
+        Token issued = tokenService.addToken(account, UUID.randomUUID().toString(), true);
+        Statements.recorded.clear();
+
+        tokenService.refreshToken(issued.getRefreshToken());
+
+        List<String> locking =
+                Statements.recorded.stream()
+                        .map(sql -> sql.toLowerCase(Locale.ROOT))
+                        .filter(sql -> sql.contains(" for update"))
+                        .toList();
+        // the account row and the role row all its peers share stay free
+        assertThat(locking).singleElement().asString().contains("tokens").doesNotContain("join");
+    }
+
+    @Test
+    void refreshToken_ShouldRedeemARefreshTokenOnlyOnce() throws Exception {
+        Account account = accountRepository.findByEmail("staff@gmail.com").orElseThrow();
+        String refreshToken =
+                tokenService
+                        .addToken(account, UUID.randomUUID().toString(), true)
+                        .getRefreshToken();
+        int attempts = 8;
+        ExecutorService pool = Executors.newFixedThreadPool(attempts);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Token>> results = new ArrayList<>();
+        for (int i = 0; i < attempts; i++) {
+            results.add(
+                    pool.submit(
+                            () -> {
+                                start.await();
+                                return tokenService.refreshToken(refreshToken);
+                            }));
+        }
+        start.countDown();
+        int redeemed = 0;
+        for (Future<Token> result : results) {
+            try {
+                result.get();
+                redeemed++;
+            } catch (ExecutionException e) {
+                assertThat(e.getCause()).isInstanceOf(TokenNotFoundException.class);
+            }
+        }
+        pool.shutdown();
+
+        assertThat(redeemed).isEqualTo(1);
+    }
+}
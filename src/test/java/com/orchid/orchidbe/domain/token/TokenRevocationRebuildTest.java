@@ -0,0 +1,96 @@
+/**
+ * Copyright (c) 2025 lcaohoanq. All rights reserved.
+ *
+ * This software is the confidential and proprietary information of lcaohoanq.
+ * You shall not disclose such confidential information and shall use it only in
+ * accordance with the terms of the license agreement you entered into with lcaohoanq.
+ */
+package com.orchid.orchidbe.domain.token;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.orchid.orchidbe.IntegrationTest;
+import com.orchid.orchidbe.components.TokenDigest;
+import com.orchid.orchidbe.components.TokenRevocationIndex;
+import com.orchid.orchidbe.domain.account.Account;
+import com.orchid.orchidbe.domain.token.TokenPort.Introspection;
+import com.orchid.orchidbe.repositories.AccountRepository;
+import com.orchid.orchidbe.repositories.TokenRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/** What a restarted instance, or one that never saw the revocation, knows from the table alone. */
+@IntegrationTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class TokenRevocationRebuildTest {
+
+    @Autowired private TokenService tokenService;
+    @Autowired private TokenRevocationIndex revocationIndex;
+    @Autowired private TokenRepository tokenRepository;
+    @Autowired private AccountRepository accountRepository;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void cleanUp() {
+        ReflectionTestUtils.setField(target(), "revocationIndex", revocationIndex);
+        tokenRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void rebuild_ShouldStillRejectEvictedAndRotatedOutTokens() throws Exception {
+        Account account = accountRepository.findByEmail("staff@gmail.com").orElseThrow();
+        String evicted = UUID.randomUUID().toString();
+        tokenService.addToken(account, evicted, false);
+        Token refreshed = tokenService.addToken(account, UUID.randomUUID().toString(), true);
+        String rotatedOut = refreshed.getToken();
+        tokenService.addToken(account, UUID.randomUUID().toString(), true);
+        String live = tokenService.addToken(account, UUID.randomUUID().toString(), true).getToken();
+        tokenService.refreshToken(refreshed.getRefreshToken());
+
+        var fresh = new TokenRevocationIndex(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(target(), "revocationIndex", fresh);
+        tokenService.rebuildRevocationIndex();
+
+        assertThat(fresh.isRevoked(TokenDigest.sha256Hex(evicted))).isTrue();
+        assertThat(fresh.isRevoked(TokenDigest.sha256Hex(rotatedOut))).isTrue();
+        assertThat(fresh.isRevoked(TokenDigest.sha256Hex(live))).isFalse();
+        assertThat(tokenService.introspect(evicted)).isEqualTo(Introspection.REVOKED);
+        assertThat(tokenService.introspect(rotatedOut)).isEqualTo(Introspection.REVOKED);
+    }
+
+    @Test
+    void rebuild_ShouldReadOnlyTheRevokedDigestsInOneStatement() throws Exception {
+        List<String> digests = new ArrayList<>();
+        for (String email : List.of("staff@gmail.com", "manager@gmail.com")) {
+            Account account = accountRepository.findByEmail(email).orElseThrow();
+            digests.add(
+                    tokenService
+                            .addToken(account, UUID.randomUUID().toString(), false)
+                            .getTokenHash());
+        }
+        tokenRepository.markRevoked(digests);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        tokenService.rebuildRevocationIndex();
+
+        // no token entities, so no account or role selects behind them
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    private TokenServiceImpl target() {
+        return AopTestUtils.getTargetObject(tokenService);
+    }
+}
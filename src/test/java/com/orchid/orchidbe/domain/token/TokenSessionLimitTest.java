@@ -0,0 +1,84 @@
+/**
+ * Copyright (c) 2025 lcaohoanq. All rights reserved.
+ *
+ * This software is the confidential and proprietary information of lcaohoanq.
+ * You shall not disclose such confidential information and shall use it only in
+ * accordance with the terms of the license agreement you entered into with lcaohoanq.
+ */
+package com.orchid.orchidbe.domain.token;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.orchid.orchidbe.IntegrationTest;
+import com.orchid.orchidbe.domain.account.Account;
+import com.orchid.orchidbe.repositories.AccountRepository;
+import com.orchid.orchidbe.repositories.TokenRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+@IntegrationTest
+class TokenSessionLimitTest {
+
+    private static final int MAX_TOKENS = 3;
+
+    @Autowired private TokenService tokenService;
+    @Autowired private TokenRepository tokenRepository;
+    @Autowired private AccountRepository accountRepository;
+
+    @AfterEach
+    void cleanUp() {
+        tokenRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void addToken_ShouldNeverExceedSlotsUnderConcurrentLogins() throws Exception {
+        Account account = accountRepository.findByEmail("manager@gmail.com").orElseThrow();
+        int logins = 32;
+        ExecutorService pool = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Token>> results = new ArrayList<>();
+        for (int i = 0; i < logins; i++) {
+            results.add(
+                    pool.submit(
+                            () -> {
+                                start.await();
+                                return tokenService.addToken(
+                                        account, UUID.randomUUID().toString(), false);
+                            }));
+        }
+        start.countDown();
+        for (Future<Token> result : results) {
+            result.get();
+        }
+        pool.shutdown();
+
+        assertThat(tokenRepository.countByAccountId(account.getId())).isEqualTo(MAX_TOKENS);
+    }
+
+    @Test
+    void addToken_ShouldEvictNonMobileSessionFirst() {
+        Account account = accountRepository.findByEmail("manager@gmail.com").orElseThrow();
+        Token mobile = tokenService.addToken(account, UUID.randomUUID().toString(), true);
+        Token web = tokenService.addToken(account, UUID.randomUUID().toString(), false);
+        Token otherMobile = tokenService.addToken(account, UUID.randomUUID().toString(), true);
+
+        Token newest = tokenService.addToken(account, UUID.randomUUID().toString(), true);
+
+        assertThat(tokenRepository.findAll())
+                .filteredOn(token -> !token.isRevoked())
+                .extracting(Token::getId)
+                .containsExactlyInAnyOrder(mobile.getId(), otherMobile.getId(), newest.getId())
+                .doesNotContain(web.getId());
+        Token evicted = tokenRepository.findById(web.getId()).orElseThrow();
+        assertThat(evicted.isRevoked()).isTrue();
+        assertThat(evicted.getRefreshTokenHash()).isNull();
+    }
+}
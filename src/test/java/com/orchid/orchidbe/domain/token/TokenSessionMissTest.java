@@ -0,0 +1,59 @@
+/**
+ * Copyright (c) 2025 lcaohoanq. All rights reserved.
+ *
+ * This software is the confidential and proprietary information of lcaohoanq.
+ * You shall not disclose such confidential information and shall use it only in
+ * accordance with the terms of the license agreement you entered into with lcaohoanq.
+ */
+package com.orchid.orchidbe.domain.token;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.orchid.orchidbe.IntegrationTest;
+import jakarta.persistence.EntityManagerFactory;
+import java.security.SecureRandom;
+import java.util.Base64;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+/** Unknown opaque tokens must not turn into a database read per request. */
+@IntegrationTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class TokenSessionMissTest {
+
+    @Autowired private TokenService tokenService;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void resolveSession_ShouldNotLookUpMalformedTokens() {
+        assertThat(tokenService.resolveSession("not-an-opaque-token")).isNull();
+        assertThat(tokenService.resolveSession("x".repeat(44))).isNull();
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void resolveSession_ShouldLookUpAnUnknownTokenOnce() {
+        byte[] bytes = new byte[32];
+        new SecureRandom().nextBytes(bytes);
+        String unknown = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(tokenService.resolveSession(unknown)).isNull();
+        }
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
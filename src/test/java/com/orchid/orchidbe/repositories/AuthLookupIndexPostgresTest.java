@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) 2025 lcaohoanq. All rights reserved.
+ *
+ * This software is the confidential and proprietary information of lcaohoanq.
+ * You shall not disclose such confidential information and shall use it only in
+ * accordance with the terms of the license agreement you entered into with lcaohoanq.
+ */
+package com.orchid.orchidbe.repositories;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.StringJoiner;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+/**
+ * Same checks as {@link AuthLookupIndexTest} against PostgreSQL and the Flyway schema. Needs a
+ * scratch database, e.g. {@code TEST_PG_URL=jdbc:postgresql://localhost:5432/orchid_test}
+ * (credentials from {@code TEST_PG_USER}/{@code TEST_PG_PASSWORD}).
+ */
+@EnabledIfEnvironmentVariable(named = "TEST_PG_URL", matches = ".+")
+class AuthLookupIndexPostgresTest {
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void migrate() throws Exception {
+        String url = System.getenv("TEST_PG_URL");
+        String user = System.getenv().getOrDefault("TEST_PG_USER", "postgres");
+        String password = System.getenv().getOrDefault("TEST_PG_PASSWORD", "postgres");
+        Flyway.configure().dataSource(url, user, password).load().migrate();
+        connection = DriverManager.getConnection(url, user, password);
+        try (Statement statement = connection.createStatement()) {
+            // the seeded tables are tiny, without this the planner rightly prefers a seq scan
+            statement.execute("SET enable_seqscan = off");
+        }
+    }
+
+    @AfterAll
+    static void close() throws Exception {
+        connection.close();
+    }
+
+    @Test
+    void findByTokenHash_ShouldUseTokenHashIndex() throws Exception {
+        assertThat(explain("SELECT * FROM public.tokens WHERE token_hash = 'x'"))
+                .contains("ux_tokens_token_hash");
+    }
+
+    @Test
+    void findByRefreshTokenHash_ShouldUseRefreshTokenHashIndex() throws Exception {
+        assertThat(explain("SELECT * FROM public.tokens WHERE refresh_token_hash = 'x'"))
+                .contains("ux_tokens_refresh_token_hash");
+    }
+
+    @Test
+    void countByAccountId_ShouldUseAccountIdIndex() throws Exception {
+        assertThat(explain("SELECT * FROM public.tokens WHERE account_id = 1"))
+                .contains("ix_tokens_account_id");
+    }
+
+    @Test
+    void findByEmail_ShouldUseEmailIndex() throws Exception {
+        assertThat(explain("SELECT * FROM public.accounts WHERE email = 'admin@gmail.com'"))
+                .contains("ux_accounts_email");
+    }
+
+    private String explain(String sql) throws Exception {
+        StringJoiner plan = new StringJoiner("\n");
+        try (Statement statement = connection.createStatement();
+                ResultSet rows = statement.executeQuery("EXPLAIN " + sql)) {
+            while (rows.next()) {
+                plan.add(rows.getString(1));
+            }
+        }
+        return plan.toString();
+    }
+}
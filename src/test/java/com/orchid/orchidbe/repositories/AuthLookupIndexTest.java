@@ -0,0 +1,50 @@
+/**
+ * Copyright (c) 2025 lcaohoanq. All rights reserved.
+ *
+ * This software is the confidential and proprietary information of lcaohoanq.
+ * You shall not disclose such confidential information and shall use it only in
+ * accordance with the terms of the license agreement you entered into with lcaohoanq.
+ */
+package com.orchid.orchidbe.repositories;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.orchid.orchidbe.IntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/** Checks that the lookups on the auth path are served by an index rather than a table scan. */
+@IntegrationTest
+class AuthLookupIndexTest {
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void findByTokenHash_ShouldUseTokenHashIndex() {
+        assertThat(explain("SELECT * FROM tokens WHERE token_hash = 'x'"))
+                .contains("UX_TOKENS_TOKEN_HASH");
+    }
+
+    @Test
+    void findByRefreshTokenHash_ShouldUseRefreshTokenHashIndex() {
+        assertThat(explain("SELECT * FROM tokens WHERE refresh_token_hash = 'x'"))
+                .contains("UX_TOKENS_REFRESH_TOKEN_HASH");
+    }
+
+    @Test
+    void countByAccountId_ShouldUseAccountIdIndex() {
+        assertThat(explain("SELECT * FROM tokens WHERE account_id = 1"))
+                .contains("IX_TOKENS_ACCOUNT_ID");
+    }
+
+    @Test
+    void findByEmail_ShouldUseEmailIndex() {
+        assertThat(explain("SELECT * FROM accounts WHERE email = 'admin@gmail.com'"))
+                .contains("UX_ACCOUNTS_EMAIL");
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+    }
+}
@@ -0,0 +1,42 @@
+/**
+ * Copyright (c) 2025 lcaohoanq. All rights reserved.
+ *
+ * This software is the confidential and proprietary information of lcaohoanq.
+ * You shall not disclose such confidential information and shall use it only in
+ * accordance with the terms of the license agreement you entered into with lcaohoanq.
+ */
+package com.orchid.orchidbe.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+class BCryptCalibrationTest {
+
+    @Test
+    void costOf_ShouldReadTheCostFromTheHash() {
+        assertEquals(5, BCryptCalibration.costOf(new BCryptPasswordEncoder(5).encode("pw")));
+        assertEquals(-1, BCryptCalibration.costOf("{noop}pw"));
+        assertEquals(-1, BCryptCalibration.costOf(null));
+    }
+
+    @Test
+    void isOutdated_ShouldFlagOnlyLowerCosts() {
+        BCryptCalibration calibration = BCryptCalibration.fixed(5);
+
+        assertFalse(calibration.isOutdated(new BCryptPasswordEncoder(5).encode("pw")));
+        assertTrue(calibration.isOutdated(new BCryptPasswordEncoder(4).encode("pw")));
+        assertTrue(calibration.isOutdated("{noop}pw"));
+        // never lowered, another instance may have calibrated a higher cost
+        assertFalse(calibration.isOutdated(new BCryptPasswordEncoder(6).encode("pw")));
+    }
+
+    @Test
+    void calibrate_ShouldStayWithinBounds() {
+        assertEquals(4, BCryptCalibration.calibrate(0, 4, 6).getStrength());
+        assertEquals(6, BCryptCalibration.calibrate(60_000, 4, 6).getStrength());
+    }
+}
@@ -0,0 +1,102 @@
+/**
+ * Copyright (c) 2025 lcaohoanq. All rights reserved.
+ *
+ * This software is the confidential and proprietary information of lcaohoanq.
+ * You shall not disclose such confidential information and shall use it only in
+ * accordance with the terms of the license agreement you entered into with lcaohoanq.
+ */
+package com.orchid.orchidbe.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.orchid.orchidbe.exceptions.ServiceOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+class BoundedPasswordEncoderTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch started = new CountDownLatch(1);
+    private SimpleMeterRegistry meterRegistry;
+    private ThreadPoolExecutor executor;
+    private BoundedPasswordEncoder encoder;
+
+    @BeforeEach
+    void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor =
+                new ThreadPoolExecutor(
+                        1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1));
+        PasswordEncoder slowEncoder =
+                new PasswordEncoder() {
+                    @Override
+                    public String encode(CharSequence rawPassword) {
+                        started.countDown();
+                        try {
+                            release.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        return "hashed:" + rawPassword;
+                    }
+
+                    @Override
+                    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                        return encodedPassword.equals("hashed:" + rawPassword);
+                    }
+                };
+        encoder = new BoundedPasswordEncoder(slowEncoder, executor, meterRegistry, 2);
+    }
+
+    @AfterEach
+    void shutdown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void encode_ShouldRunOnTheHashingPool() {
+        release.countDown();
+
+        assertEquals("hashed:secret", encoder.encode("secret"));
+        assertTrue(encoder.matches("secret", "hashed:secret"));
+        assertEquals(
+                1,
+                meterRegistry
+                        .get("auth.password.hashing.time")
+                        .tag("operation", "encode")
+                        .timer()
+                        .count());
+    }
+
+    @Test
+    void encode_ShouldFailFastWhenQueueIsFull() throws Exception {
+        // one hash running, one queued: the pool and its queue are both full
+        Thread running = new Thread(() -> encoder.encode("a"));
+        running.start();
+        started.await();
+        Thread queued = new Thread(() -> encoder.encode("b"));
+        queued.start();
+        while (executor.getQueue().isEmpty()) {
+            Thread.onSpinWait();
+        }
+
+        ServiceOverloadedException ex =
+                assertThrows(ServiceOverloadedException.class, () -> encoder.encode("c"));
+        assertEquals(2, ex.getRetryAfterSeconds());
+        assertEquals(1, meterRegistry.get("auth.password.hashing.rejected").counter().count());
+
+        release.countDown();
+        running.join();
+        queued.join();
+    }
+}
@@ -0,0 +1,111 @@
+/**
+ * Copyright (c) 2025 lcaohoanq. All rights reserved.
+ *
+ * This software is the confidential and proprietary information of lcaohoanq.
+ * You shall not disclose such confidential information and shall use it only in
+ * accordance with the terms of the license agreement you entered into with lcaohoanq.
+ */
+package com.orchid.orchidbe.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.orchid.orchidbe.domain.role.Role.RoleName;
+import com.orchid.orchidbe.security.RoleAuthorizationManager.Kind;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authorization.AuthorizationResult;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.util.SimpleMethodInvocation;
+
+class RoleAuthorizationManagerTest {
+
+    private final RoleAuthorizationManager manager = new RoleAuthorizationManager();
+
+    @Test
+    void compile_ShouldTurnRoleChecksIntoMasks() {
+        assertThat(RoleAuthorizationManager.compile("hasAnyRole('ROLE_ADMIN', 'ROLE_MANAGER')"))
+                .isEqualTo(RoleAuthorizationManager.compile("hasAnyRole('ADMIN','MANAGER')"))
+                .isEqualTo(
+                        RoleAuthorizationManager.compile(
+                                "hasAnyAuthority('ROLE_MANAGER', 'ROLE_ADMIN')"))
+                .extracting(RoleAuthorizationManager.Rule::kind)
+                .isEqualTo(Kind.ROLES);
+        assertThat(RoleAuthorizationManager.compile("permitAll()").kind())
+                .isEqualTo(Kind.PERMIT_ALL);
+        assertThat(RoleAuthorizationManager.compile("isAuthenticated()").kind())
+                .isEqualTo(Kind.AUTHENTICATED);
+    }
+
+    @Test
+    void compile_ShouldLeaveAnythingElseToSpel() {
+        assertThat(RoleAuthorizationManager.compile("hasAuthority('ADMIN')").kind())
+                .isEqualTo(Kind.EXPRESSION);
+        assertThat(RoleAuthorizationManager.compile("hasRole('ROLE_AUDITOR')").kind())
+                .isEqualTo(Kind.EXPRESSION);
+        assertThat(RoleAuthorizationManager.compile("hasRole('ADMIN') and #id == 1").kind())
+                .isEqualTo(Kind.EXPRESSION);
+    }
+
+    @Test
+    void authorize_ShouldGrantOnlyListedRoles() throws Exception {
+        assertThat(authorize("managersOnly", principal(RoleName.MANAGER))).isTrue();
+        assertThat(authorize("managersOnly", principal(RoleName.ADMIN))).isTrue();
+        assertThat(authorize("managersOnly", principal(RoleName.USER))).isFalse();
+        assertThat(authorize("managersOnly", anonymous())).isFalse();
+        assertThat(authorize("managersOnly", null)).isFalse();
+    }
+
+    @Test
+    void authorize_ShouldMatchAuthoritiesOfForeignPrincipals() throws Exception {
+        Authentication mockUser =
+                UsernamePasswordAuthenticationToken.authenticated(
+                        "someone", null, AuthorityUtils.createAuthorityList("ROLE_ADMIN"));
+
+        assertThat(authorize("managersOnly", mockUser)).isTrue();
+        assertThat(authorize("signedIn", mockUser)).isTrue();
+        assertThat(authorize("signedIn", anonymous())).isFalse();
+        assertThat(authorize("everyone", anonymous())).isTrue();
+    }
+
+    @Test
+    void authorize_ShouldEvaluateUncompiledExpressionsWithSpel() throws Exception {
+        assertThat(authorize("spel", principal(RoleName.STAFF))).isTrue();
+        assertThat(authorize("spel", principal(RoleName.USER))).isFalse();
+    }
+
+    private Boolean authorize(String method, Authentication authentication) throws Exception {
+        var invocation =
+                new SimpleMethodInvocation(new Endpoints(), Endpoints.class.getMethod(method));
+        AuthorizationResult decision = manager.authorize(() -> authentication, invocation);
+        return decision == null ? null : decision.isGranted();
+    }
+
+    private static Authentication principal(RoleName role) {
+        var principal = new JwtPrincipal(1L, "user@gmail.com", role);
+        return UsernamePasswordAuthenticationToken.authenticated(
+                principal, null, principal.getAuthorities());
+    }
+
+    private static Authentication anonymous() {
+        return new AnonymousAuthenticationToken(
+                "key", "anonymousUser", AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS"));
+    }
+
+    static class Endpoints {
+
+        @PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_MANAGER')")
+        public void managersOnly() {}
+
+        @PreAuthorize("isAuthenticated()")
+        public void signedIn() {}
+
+        @PreAuthorize("permitAll()")
+        public void everyone() {}
+
+        @PreAuthorize("hasRole('STAFF') or hasRole('ADMIN')")
+        public void spel() {}
+    }
+}